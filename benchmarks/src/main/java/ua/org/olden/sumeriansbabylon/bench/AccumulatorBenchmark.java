@@ -0,0 +1,72 @@
+package ua.org.olden.sumeriansbabylon.bench;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ua.org.olden.sumeriansbabylon.Base60;
+import ua.org.olden.sumeriansbabylon.Base60Accumulator;
+
+/**
+ * Сума стовпця з 10 000 дробів: ланцюжок add проти Base60Accumulator
+ * і згортки збалансованим деревом (Base60.sum, паралельний Collector).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccumulatorBenchmark {
+
+    private static final int SIZE = 10_000;
+
+    private Base60[] column;
+    private List<Base60> columnList;
+
+    @Setup
+    public void setup() {
+        column = new Base60[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            column[i] = Base60.fromFraction(i + 1, i % 97 + 2);
+        }
+        columnList = Arrays.asList(column);
+    }
+
+    @Benchmark
+    public Base60 chainedAdd() {
+        Base60 sum = Base60.fromInt(0);
+        for (Base60 v : column) {
+            sum = sum.add(v);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Base60 accumulator() {
+        Base60Accumulator acc = new Base60Accumulator();
+        for (Base60 v : column) {
+            acc.add(v);
+        }
+        return acc.toBase60();
+    }
+
+    @Benchmark
+    public Base60 balancedSum() {
+        return Base60.sum(columnList);
+    }
+
+    @Benchmark
+    public Base60 parallelCollector() {
+        return columnList.parallelStream().collect(Base60.summing());
+    }
+}
@@ -0,0 +1,82 @@
+package ua.org.olden.sumeriansbabylon.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ua.org.olden.sumeriansbabylon.Base60;
+
+/**
+ * Арифметика, порівняння та hashCode для кожної форми операндів.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArithmeticBenchmark {
+
+    @Param({"SMALL", "CLOCK", "PERIODIC", "HUGE"})
+    public Operand operand;
+
+    private Base60 a;
+    private Base60 b;
+    private Base60 regular;
+
+    @Setup
+    public void setup() {
+        a = operand.a();
+        b = operand.b();
+        regular = Base60.fromInt(360);
+    }
+
+    @Benchmark
+    public Base60 add() {
+        return a.add(b);
+    }
+
+    @Benchmark
+    public Base60 subtract() {
+        return a.subtract(b);
+    }
+
+    @Benchmark
+    public Base60 multiply() {
+        return a.multiply(b);
+    }
+
+    @Benchmark
+    public Base60 divide() {
+        return a.divide(b);
+    }
+
+    // Ділення на регулярне 360 — найчастіший випадок (2, 3, 4, 5, 6, 60 …)
+    @Benchmark
+    public Base60 divideByRegular() {
+        return a.divide(regular);
+    }
+
+    @Benchmark
+    public int compareTo() {
+        return a.compareTo(b);
+    }
+
+    @Benchmark
+    public int hashCodeOf() {
+        return a.hashCode();
+    }
+
+    @Benchmark
+    public Base60 powInt() {
+        return a.pow(3);
+    }
+}
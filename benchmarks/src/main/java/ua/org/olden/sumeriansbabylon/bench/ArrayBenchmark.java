@@ -0,0 +1,90 @@
+package ua.org.olden.sumeriansbabylon.bench;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ua.org.olden.sumeriansbabylon.Base60;
+import ua.org.olden.sumeriansbabylon.Base60Array;
+
+/**
+ * Base60Array поза купою проти списку об'єктів Base60: сума й сортування
+ * size випадкових часових значень (секунди з точністю до 1/60).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArrayBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    private Base60[] values;
+    private Base60Array array;
+    private List<Base60> list;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        values = new Base60[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = Base60.fromFraction(random.nextInt(86_400 * 60), 60);
+        }
+        array = new Base60Array(size);
+        list = new ArrayList<>(size);
+    }
+
+    // Сортування змінює вміст, тож перед кожним викликом — вихідний порядок
+    @Setup(Level.Invocation)
+    public void reset() {
+        list.clear();
+        for (int i = 0; i < size; i++) {
+            array.set(i, values[i]);
+            list.add(values[i]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        array.close();
+    }
+
+    @Benchmark
+    public Base60 arraySum() {
+        return array.sum();
+    }
+
+    @Benchmark
+    public Base60 listSum() {
+        return Base60.sum(list);
+    }
+
+    @Benchmark
+    public Base60Array arraySort() {
+        array.sort();
+        return array;
+    }
+
+    @Benchmark
+    public List<Base60> listSort() {
+        Collections.sort(list);
+        return list;
+    }
+}
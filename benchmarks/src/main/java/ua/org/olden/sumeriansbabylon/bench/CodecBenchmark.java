@@ -0,0 +1,62 @@
+package ua.org.olden.sumeriansbabylon.bench;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ua.org.olden.sumeriansbabylon.Base60;
+import ua.org.olden.sumeriansbabylon.Base60Codec;
+
+/**
+ * Двійковий формат Base60Codec проти тексту: запис і читання з прямого буфера.
+ * Текст — toBase60WithPeriod, тобто точне значення, як і в двійковому форматі.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodecBenchmark {
+
+    @Param({"SMALL", "CLOCK", "PERIODIC", "HUGE"})
+    public Operand operand;
+
+    private Base60 a;
+    private ByteBuffer encoded;
+    private ByteBuffer scratch;
+    private String text;
+
+    @Setup
+    public void setup() {
+        a = operand.a();
+        encoded = Base60Codec.encode(a, ByteBuffer.allocateDirect(Base60Codec.encodedLength(a))).flip();
+        scratch = ByteBuffer.allocateDirect(1 << 16);
+        text = a.toBase60WithPeriod();
+    }
+
+    @Benchmark
+    public ByteBuffer encode() {
+        scratch.clear();
+        return Base60Codec.encode(a, scratch);
+    }
+
+    @Benchmark
+    public Base60 decode() {
+        return Base60Codec.decode(encoded.rewind());
+    }
+
+    @Benchmark
+    public Base60 parseText() {
+        return Base60.parse(text);
+    }
+}
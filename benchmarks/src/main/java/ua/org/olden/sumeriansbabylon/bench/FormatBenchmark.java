@@ -0,0 +1,82 @@
+package ua.org.olden.sumeriansbabylon.bench;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ua.org.olden.sumeriansbabylon.Base60;
+import ua.org.olden.sumeriansbabylon.CuneiformEncoder;
+
+/**
+ * Форматування: toString(precision), toBase60WithPeriod, toSumerianString
+ * і запис у буфер викликача без проміжного String (formatTo, writeTo, CuneiformEncoder).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatBenchmark {
+
+    @Param({"SMALL", "CLOCK", "PERIODIC", "HUGE"})
+    public Operand operand;
+
+    @Param({"10", "100"})
+    public int precision;
+
+    private Base60 a;
+    private StringBuilder builder;
+    private ByteBuffer bytes;
+    private CuneiformEncoder cuneiform;
+
+    @Setup
+    public void setup() {
+        a = operand.a();
+        builder = new StringBuilder();
+        bytes = ByteBuffer.allocateDirect(1 << 18);
+        cuneiform = new CuneiformEncoder(precision);
+    }
+
+    @Benchmark
+    public String toStringWithPrecision() {
+        return a.toString(precision);
+    }
+
+    @Benchmark
+    public StringBuilder formatToBuilder() {
+        builder.setLength(0);
+        return a.formatTo(builder, precision);
+    }
+
+    @Benchmark
+    public ByteBuffer writeToByteBuffer() {
+        bytes.clear();
+        return a.writeTo(bytes, precision);
+    }
+
+    @Benchmark
+    public String toBase60WithPeriod() {
+        return a.toBase60WithPeriod();
+    }
+
+    @Benchmark
+    public String toSumerianString() {
+        return a.toSumerianString();
+    }
+
+    @Benchmark
+    public ByteBuffer cuneiformUtf8() {
+        bytes.clear();
+        return cuneiform.encode(a, bytes);
+    }
+}
@@ -0,0 +1,44 @@
+package ua.org.olden.sumeriansbabylon.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import ua.org.olden.sumeriansbabylon.Base60;
+
+/**
+ * Масове генерування таблиці множення 1–59 × 1–59, як у MulTable,
+ * у звичайному та клинописному вигляді.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MulTableBenchmark {
+
+    private static final int MAX_FACTOR = 59;
+
+    @Benchmark
+    public void base60Table(Blackhole bh) {
+        for (int row = 1; row <= MAX_FACTOR; row++) {
+            for (int col = 1; col <= MAX_FACTOR; col++) {
+                bh.consume(Base60.fromInt(row).multiply(Base60.fromInt(col)).toString());
+            }
+        }
+    }
+
+    @Benchmark
+    public void sumerianTable(Blackhole bh) {
+        for (int row = 1; row <= MAX_FACTOR; row++) {
+            for (int col = 1; col <= MAX_FACTOR; col++) {
+                bh.consume(Base60.fromInt(row).multiply(Base60.fromInt(col)).toSumerianString());
+            }
+        }
+    }
+}
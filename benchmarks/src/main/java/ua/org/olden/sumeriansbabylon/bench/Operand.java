@@ -0,0 +1,69 @@
+package ua.org.olden.sumeriansbabylon.bench;
+
+import java.math.BigInteger;
+import java.util.Random;
+import ua.org.olden.sumeriansbabylon.Base60;
+
+/**
+ * Типові форми операндів для бенчмарків: пара значень {@code a}, {@code b}.
+ * SMALL — малі цілі, CLOCK — години:хвилини:секунди, PERIODIC — дроби
+ * з періодом у base-60 (на кшталт 1/7), HUGE — ~10 000 десяткових цифр.
+ */
+public enum Operand {
+
+    SMALL {
+        @Override
+        Base60 a() {
+            return Base60.fromInt(7);
+        }
+
+        @Override
+        Base60 b() {
+            return Base60.fromInt(3);
+        }
+    },
+    CLOCK {
+        @Override
+        Base60 a() {
+            return Base60.parse("1:30:15");
+        }
+
+        @Override
+        Base60 b() {
+            return Base60.parse("2:15.30");
+        }
+    },
+    PERIODIC {
+        @Override
+        Base60 a() {
+            return Base60.fromFraction(1, 7);
+        }
+
+        @Override
+        Base60 b() {
+            return Base60.fromFraction(5, 13);
+        }
+    },
+    HUGE {
+        @Override
+        Base60 a() {
+            return Base60.fromFraction(randomDigits(1), BigInteger.valueOf(7));
+        }
+
+        @Override
+        Base60 b() {
+            return Base60.fromFraction(randomDigits(2), BigInteger.valueOf(11));
+        }
+    };
+
+    // 10 000 десяткових цифр ≈ 33 220 біт
+    private static final int HUGE_BITS = 33_220;
+
+    abstract Base60 a();
+
+    abstract Base60 b();
+
+    private static BigInteger randomDigits(long seed) {
+        return new BigInteger(HUGE_BITS, new Random(seed)).setBit(HUGE_BITS - 1);
+    }
+}
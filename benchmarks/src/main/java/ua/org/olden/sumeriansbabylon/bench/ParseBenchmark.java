@@ -0,0 +1,58 @@
+package ua.org.olden.sumeriansbabylon.bench;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ua.org.olden.sumeriansbabylon.Base60;
+
+/**
+ * Розбір рядків, отриманих з toString(20) і toSumerianString(20) кожної форми операндів;
+ * клинопис — і як String, і як UTF-8 байти.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+
+    @Param({"SMALL", "CLOCK", "PERIODIC", "HUGE"})
+    public Operand operand;
+
+    private String text;
+    private String sumerian;
+    private byte[] sumerianUtf8;
+
+    @Setup
+    public void setup() {
+        text = operand.a().toString(20);
+        sumerian = operand.a().toSumerianString(20);
+        sumerianUtf8 = sumerian.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Base60 parse() {
+        return Base60.parse(text);
+    }
+
+    @Benchmark
+    public Base60 parseSumerian() {
+        return Base60.parseSumerian(sumerian);
+    }
+
+    @Benchmark
+    public Base60 parseSumerianUtf8() {
+        return Base60.parseSumerian(sumerianUtf8, 0, sumerianUtf8.length);
+    }
+}
@@ -0,0 +1,70 @@
+package ua.org.olden.sumeriansbabylon.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ua.org.olden.sumeriansbabylon.Base60;
+
+/**
+ * Корені та дробовий степінь із фіксованою кількістю розрядів base-60.
+ * HUGE тут не використовується: sqrt() проходить через BigDecimal із 50 знаками.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RootBenchmark {
+
+    @Param({"SMALL", "CLOCK", "PERIODIC"})
+    public Operand operand;
+
+    @Param({"10", "100"})
+    public int places;
+
+    private Base60 a;
+    private Base60 half;
+    private Base60 threeHalves;
+
+    @Setup
+    public void setup() {
+        a = operand.a();
+        half = Base60.fromFraction(1, 2);
+        threeHalves = Base60.fromFraction(3, 2);
+    }
+
+    @Benchmark
+    public Base60 sqrt() {
+        return a.sqrt();
+    }
+
+    @Benchmark
+    public Base60 sqrtSumerians() {
+        return a.sqrtSumerians(places);
+    }
+
+    @Benchmark
+    public Base60 powFractional() {
+        return a.pow(half, places);
+    }
+
+    @Benchmark
+    public Base60 powThreeHalves() {
+        return a.pow(threeHalves, places);
+    }
+
+    @Benchmark
+    public Base60 cubeRoot() {
+        return a.nthRoot(3, places);
+    }
+}
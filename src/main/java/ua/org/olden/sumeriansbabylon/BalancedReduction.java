@@ -0,0 +1,132 @@
+package ua.org.olden.sumeriansbabylon;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collector;
+
+/**
+ * Згортка дробів збалансованим деревом: на кожному рівні операнди мають схожий розмір,
+ * тож знаменник не тягне за собою НСК усього попереднього на кожному кроці, як у ланцюжку add.
+ * Великі масиви діляться між потоками fork-join пулу. Арифметика точна, тож порядок
+ * згортки не впливає на результат — паралельний і послідовний варіанти дають одне значення.
+ */
+final class BalancedReduction {
+
+    // Менші відрізки згортаються в поточному потоці
+    private static final int PARALLEL_THRESHOLD = 1 << 12;
+
+    private BalancedReduction() {
+    }
+
+    static Base60 reduce(Base60[] values, Base60 identity, BinaryOperator<Base60> op) {
+        if (values.length == 0) {
+            return identity;
+        }
+        if (values.length < PARALLEL_THRESHOLD) {
+            return reduce(values, 0, values.length, op);
+        }
+        return ForkJoinPool.commonPool().invoke(new ReduceTask(values, 0, values.length, op));
+    }
+
+    private static Base60 reduce(Base60[] values, int from, int to, BinaryOperator<Base60> op) {
+        if (to - from == 1) {
+            return Objects.requireNonNull(values[from]);
+        }
+        int mid = (from + to) >>> 1;
+        return op.apply(reduce(values, from, mid, op), reduce(values, mid, to, op));
+    }
+
+    // RecursiveTask успадковує Serializable, але задача живе лише в межах одного invoke
+    // і ніколи не серіалізується — ні serialVersionUID, ні серіалізовні поля їй не потрібні
+    @SuppressWarnings("serial")
+    private static final class ReduceTask extends RecursiveTask<Base60> {
+
+        private final Base60[] values;
+        private final int from;
+        private final int to;
+        private final BinaryOperator<Base60> op;
+
+        ReduceTask(Base60[] values, int from, int to, BinaryOperator<Base60> op) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+            this.op = op;
+        }
+
+        @Override
+        protected Base60 compute() {
+            if (to - from < PARALLEL_THRESHOLD) {
+                return reduce(values, from, to, op);
+            }
+            int mid = (from + to) >>> 1;
+            ReduceTask left = new ReduceTask(values, from, mid, op);
+            left.fork();
+            Base60 right = new ReduceTask(values, mid, to, op).compute();
+            return op.apply(left.join(), right);
+        }
+    }
+
+    // Для потоків: той самий баланс без буферизації всього входу
+    static Collector<Base60, ?, Base60> collector(Base60 identity, BinaryOperator<Base60> op) {
+        return Collector.of(
+                () -> new Counter(op),
+                Counter::add,
+                Counter::combine,
+                counter -> counter.finish(identity),
+                Collector.Characteristics.UNORDERED);
+    }
+
+    // Двійковий лічильник: levels[i] — згортка рівно 2^i елементів або null.
+    // Додавання елемента — перенос, як у двійковому додаванні: зливаються лише рівні за розміром.
+    private static final class Counter {
+
+        private final BinaryOperator<Base60> op;
+        private final List<Base60> levels = new ArrayList<>();
+
+        Counter(BinaryOperator<Base60> op) {
+            this.op = op;
+        }
+
+        void add(Base60 value) {
+            carry(Objects.requireNonNull(value), 0);
+        }
+
+        Counter combine(Counter other) {
+            for (int level = 0; level < other.levels.size(); level++) {
+                Base60 value = other.levels.get(level);
+                if (value != null) {
+                    carry(value, level);
+                }
+            }
+            return this;
+        }
+
+        private void carry(Base60 value, int level) {
+            while (level < levels.size() && levels.get(level) != null) {
+                value = op.apply(levels.get(level), value);
+                levels.set(level, null);
+                level++;
+            }
+            if (level == levels.size()) {
+                levels.add(value);
+            } else {
+                levels.set(level, value);
+            }
+        }
+
+        // Від молодших рівнів до старших: менші часткові результати зливаються першими
+        Base60 finish(Base60 identity) {
+            Base60 result = null;
+            for (Base60 value : levels) {
+                if (value != null) {
+                    result = result == null ? value : op.apply(value, result);
+                }
+            }
+            return result == null ? identity : result;
+        }
+    }
+}
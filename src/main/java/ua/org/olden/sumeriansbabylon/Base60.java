@@ -1,75 +1,228 @@
 package ua.org.olden.sumeriansbabylon;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 public final class Base60 extends Number implements Comparable<Base60> {
 
     private static final BigInteger SIXTY = BigInteger.valueOf(60);
     private static final MathContext MC = new MathContext(50, RoundingMode.HALF_UP);
+    private static final double LOG60_OF_2 = Math.log(2) / Math.log(60);
+    private static final int LONG_DIGITS = 11;  // 60^11 > Long.MAX_VALUE
+    private static final long[] LONG_POW60 = buildLongPow60();
+    private static final int CHUNK_LOG2 = 3;
+    private static final int CHUNK_DIGITS = 1 << CHUNK_LOG2;  // 60^8 < 2^48
+    private static final long MAX_LONG_REMAINDER_DEN = Long.MAX_VALUE / 60;  // r * 60 не переповнюється
+    private static final int MIN_FRACTION_DIGITS = 64;  // скінченний дріб зі знаменником у long — менше
+    private static final int FRACTION_BLOCK_DIGITS = 1 << 12;
+    private static final byte[] NO_DIGITS = {};
+    // Кеш малих цілих: від -128 до 3600 (одна шістдесяткова «година», 60²)
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = 3600;
+    private static final Base60[] SMALL_INTEGERS = buildSmallIntegers();
+    private static final Base60 ZERO = SMALL_INTEGERS[-CACHE_LOW];
+    private static final Base60 ONE = SMALL_INTEGERS[1 - CACHE_LOW];
+    private static final Base60 TWO = SMALL_INTEGERS[2 - CACHE_LOW];
+    private static final int DEFAULT_ROOT_PLACES = 20;  // ≈ 35 десяткових знаків
+    private static final Base60Interner INTERNER = new Base60Interner();
+    private static final BigInteger POW3_LONG = BigInteger.valueOf(4052555153018976267L);  // 3^39
+    private static final BigInteger POW5_LONG = BigInteger.valueOf(7450580596923828125L);  // 5^27
+    private static final BigInteger THREE = BigInteger.valueOf(3);
+    private static final BigInteger FIVE = BigInteger.valueOf(5);
+    private static final long DOUBLE_EXACT = 1L << Double.PRECISION;
+    private static final long FLOAT_EXACT = 1L << Float.PRECISION;
+    private static final long DOUBLE_MANTISSA_MASK = (1L << (Double.PRECISION - 1)) - 1;
+    private static volatile BigInteger[] sixtyPow2kTable = {SIXTY};
+
+    private static long[] buildLongPow60() {
+        long[] pow = new long[LONG_DIGITS];
+        pow[0] = 1;
+        for (int i = 1; i < LONG_DIGITS; i++) {
+            pow[i] = pow[i - 1] * 60;
+        }
+        return pow;
+    }
+
+    // ASCII-символи розрядів 0–59: десятки (для 0–9 не пишуться) та одиниці
+    private static final byte[] DIGIT_TENS = buildDigitChars(10, 6);
+    private static final byte[] DIGIT_ONES = buildDigitChars(1, 10);
+
+    // Символ (i / divisor) % modulus для кожного розряду i від 0 до 59
+    private static byte[] buildDigitChars(int divisor, int modulus) {
+        byte[] chars = new byte[60];
+        for (int i = 0; i < 60; i++) {
+            chars[i] = (byte) ('0' + i / divisor % modulus);
+        }
+        return chars;
+    }
+
+    private static Base60[] buildSmallIntegers() {
+        Base60[] integers = new Base60[CACHE_HIGH - CACHE_LOW + 1];
+        for (int i = 0; i < integers.length; i++) {
+            integers[i] = new Base60(i + CACHE_LOW, 1L);
+        }
+        return integers;
+    }
+
+    // Регулярні обернені 1/n (n = 2^a · 3^b · 5^c ≤ 3600) — скінченні дроби, які вавилоняни
+    // тримали в таблицях. Будується ліниво при першому зверненні (ідіома holder-класу).
+    private static final class RegularReciprocals {
+
+        static final Base60[] TABLE = build();
+
+        private static Base60[] build() {
+            Base60[] table = new Base60[CACHE_HIGH + 1];
+            for (long n : ReciprocalTable.regularNumbers(CACHE_HIGH)) {
+                table[(int) n] = n == 1 ? ONE : new Base60(1L, n);
+            }
+            return table;
+        }
+    }
 
-    // --- Клинопис ---
-    // Нуль: 𒑱 (U+12471) — вертикальне двокрапля, пізньовавилонський знак-розділювач
-    // Роздільник цілої та дробової частин: 𒑲 (U+12472) — діагональне двокрапля
-    private static final String CUNEIFORM_ZERO = Character.toString(0x12471);
-    private static final String CUNEIFORM_FRAC = Character.toString(0x12472);
-    private static final String[] CUNEIFORM_DIGITS = buildCuneiformDigits();
-
-    private static String[] buildCuneiformDigits() {
-        // Одиниці 1–9: готові злиті знаки (ASH = вертикальний клин)
-        //   1 → 𒁹 U+12079,  2–9 → U+12400–U+12407
-        String[] ones = {
-                "",
-                Character.toString(0x12079), // 𒁹  1
-                Character.toString(0x12400), // 𒐀  2
-                Character.toString(0x12401), // 𒐁  3
-                Character.toString(0x12402), // 𒐂  4
-                Character.toString(0x12403), // 𒐃  5
-                Character.toString(0x12404), // 𒐄  6
-                Character.toString(0x12405), // 𒐅  7
-                Character.toString(0x12406), // 𒐆  8
-                Character.toString(0x12407), // 𒐇  9
-        };
-        // Десятки: повторення знаку Winkelhaken 𒌋 (U+1230B)
-        //   10→𒌋  20→𒌋𒌋  30→𒌋𒌋𒌋  40→𒌋𒌋𒌋𒌋  50→𒌋𒌋𒌋𒌋𒌋
-        String ten = Character.toString(0x1230B);
-        String[] tens = {"", ten, ten + ten, ten + ten + ten, ten + ten + ten + ten, ten + ten + ten + ten + ten};
-
-        String[] digits = new String[60];
-        digits[0] = CUNEIFORM_ZERO; // 𒑱 нуль
-        for (int i = 1; i < 60; i++) {
-            digits[i] = tens[i / 10] + ones[i % 10];
-        }
-        return digits;
-    }
-
-    private final BigInteger numerator;
-    private final BigInteger denominator;
+    // Компактний режим: якщо bigNum == null, значення зберігається як num / den у примітивних long.
+    // Інваріант компактного режиму: den > 0, gcd(|num|, den) = 1, num != Long.MIN_VALUE.
+    // Представлення канонічне: значення, що вміщується в long, завжди зберігається компактно.
+    private final long num;
+    private final long den;
+    private final BigInteger bigNum;
+    private final BigInteger bigDen;
+    // Кешований hashCode; 0 — ще не обчислено (як у String, гонка нешкідлива)
+    private int hash;
 
     // --- Конструктори ---
+    // Довірений конструктор: дріб уже нескоротний і den > 0 — лишається тільки обрати представлення
     private Base60(BigInteger num, BigInteger den) {
+        if (fitsCompact(num) && fitsCompact(den)) {
+            this.num = num.longValue();
+            this.den = den.longValue();
+            this.bigNum = null;
+            this.bigDen = null;
+        } else {
+            this.num = 0;
+            this.den = 0;
+            this.bigNum = num;
+            this.bigDen = den;
+        }
+    }
+
+    // Довірений конструктор компактного режиму: викликач гарантує інваріант (нормалізований дріб).
+    private Base60(long num, long den) {
+        this.num = num;
+        this.den = den;
+        this.bigNum = null;
+        this.bigDen = null;
+    }
+
+    // Нормалізуюча фабрика: GCD, знак в num, den > 0
+    private static Base60 of(BigInteger num, BigInteger den) {
         Objects.requireNonNull(num);
         Objects.requireNonNull(den);
         if (den.signum() == 0) {
             throw new ArithmeticException("Denominator cannot be zero");
         }
-        // Нормалізація: GCD, знак в num, den > 0
-        BigInteger gcd = num.gcd(den).abs();
-        this.numerator = num.divide(gcd).multiply(BigInteger.valueOf(den.signum()));
-        this.denominator = den.abs().divide(gcd);
+        BigInteger gcd = num.gcd(den);
+        if (den.signum() < 0) {
+            gcd = gcd.negate();
+        }
+        return new Base60(num.divide(gcd), den.divide(gcd));
+    }
+
+    // Нормалізуюча фабрика для long-пари; Long.MIN_VALUE не має модуля в long, тож іде через BigInteger
+    private static Base60 ofLong(long num, long den) {
+        if (den == 0) {
+            throw new ArithmeticException("Denominator cannot be zero");
+        }
+        if (num == Long.MIN_VALUE || den == Long.MIN_VALUE) {
+            return of(BigInteger.valueOf(num), BigInteger.valueOf(den));
+        }
+        if (den < 0) {
+            num = -num;
+            den = -den;
+        }
+        long gcd = gcd(Math.abs(num), den);
+        return compact(num / gcd, den / gcd);
+    }
+
+    private static boolean fitsCompact(BigInteger value) {
+        return value.bitLength() <= 63 && value.longValue() != Long.MIN_VALUE;
+    }
+
+    // Бінарний (Стейна) GCD для невід'ємних long
+    static long gcd(long a, long b) {
+        if (a == 0) {
+            return b;
+        }
+        if (b == 0) {
+            return a;
+        }
+        int shift = Long.numberOfTrailingZeros(a | b);
+        a >>= Long.numberOfTrailingZeros(a);
+        do {
+            b >>= Long.numberOfTrailingZeros(b);
+            if (a > b) {
+                long t = a;
+                a = b;
+                b = t;
+            }
+            b -= a;
+        } while (b != 0);
+        return a << shift;
+    }
+
+    boolean isCompact() {
+        return bigNum == null;
+    }
+
+    // Поля компактного режиму — лише коли isCompact()
+    long compactNumerator() {
+        return num;
+    }
+
+    long compactDenominator() {
+        return den;
+    }
+
+    // Для двійкового кодека: пара вже нескоротна, den > 0 — GCD не рахується.
+    // Представлення (компактне чи BigInteger) обирається як завжди.
+    static Base60 canonical(long num, long den) {
+        return compact(num, den);
+    }
+
+    static Base60 canonical(BigInteger num, BigInteger den) {
+        if (fitsCompact(num) && fitsCompact(den)) {
+            return compact(num.longValue(), den.longValue());
+        }
+        return new Base60(num, den);
+    }
+
+    BigInteger numerator() {
+        return bigNum != null ? bigNum : BigInteger.valueOf(num);
+    }
+
+    BigInteger denominator() {
+        return bigDen != null ? bigDen : BigInteger.valueOf(den);
     }
 
     public static Base60 fromInteger(BigInteger value) {
-        return new Base60(value, BigInteger.ONE);
+        return new Base60(Objects.requireNonNull(value), BigInteger.ONE);
     }
 
     public static Base60 fromDecimal(BigDecimal value) {
@@ -83,211 +236,1068 @@ public final class Base60 extends Number implements Comparable<Base60> {
         } else {
             num = num.multiply(BigInteger.TEN.pow(-scale));
         }
-        return new Base60(num, den);
+        return of(num, den);
+    }
+
+    // Точне значення double: m · 2^e розкладається прямо з бітів IEEE, без рядкового перетворення
+    public static Base60 fromDouble(double value) {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException("Not a finite number: " + value);
+        }
+        if (value == 0) {
+            return ZERO;
+        }
+        long mantissa = Double.doubleToRawLongBits(value) & DOUBLE_MANTISSA_MASK;
+        int exponent = Math.getExponent(value);
+        if (exponent < Double.MIN_EXPONENT) {
+            exponent = Double.MIN_EXPONENT;  // субнормальне: без неявної одиниці
+        } else {
+            mantissa |= DOUBLE_MANTISSA_MASK + 1;
+        }
+        // m непарне після зсуву, тож m / 2^k уже нескоротний
+        int zeros = Long.numberOfTrailingZeros(mantissa);
+        mantissa >>= zeros;
+        exponent += zeros - (Double.PRECISION - 1);
+        long signed = value < 0 ? -mantissa : mantissa;
+        if (exponent >= 0) {
+            if (exponent < Long.numberOfLeadingZeros(mantissa) - 1) {
+                return compact(signed << exponent, 1L);
+            }
+            return new Base60(BigInteger.valueOf(signed).shiftLeft(exponent), BigInteger.ONE);
+        }
+        if (-exponent < Long.SIZE - 1) {
+            return compact(signed, 1L << -exponent);
+        }
+        return new Base60(BigInteger.valueOf(signed), BigInteger.ONE.shiftLeft(-exponent));
+    }
+
+    public static Base60 fromFloat(float value) {
+        return fromDouble(value);  // розширення float → double точне
+    }
+
+    // Найближче до value число з не більше ніж sexagesimalPlaces дробовими розрядами (half-even)
+    public static Base60 fromDouble(double value, int sexagesimalPlaces) {
+        if (sexagesimalPlaces < 0) {
+            throw new IllegalArgumentException("Places must be non-negative: " + sexagesimalPlaces);
+        }
+        Base60 exact = fromDouble(value);
+        BigInteger den = exact.denominator();
+        if (den.equals(BigInteger.ONE)) {
+            return exact;
+        }
+        // den = 2^k: ⌊|m| · 60^n / 2^k⌉ зсувом з округленням до парного
+        int k = den.getLowestSetBit();
+        BigInteger scaled = exact.numerator().abs().multiply(pow60(sexagesimalPlaces));
+        BigInteger rounded = scaled.shiftRight(k);
+        int halfBit = k - 1;
+        if (scaled.testBit(halfBit)
+                && (scaled.getLowestSetBit() < halfBit || rounded.testBit(0))) {
+            rounded = rounded.add(BigInteger.ONE);
+        }
+        return of(value < 0 ? rounded.negate() : rounded, pow60(sexagesimalPlaces));
     }
 
     public static Base60 fromInt(int value) {
-        return new Base60(BigInteger.valueOf(value), BigInteger.ONE);
+        return valueOf(value);
     }
 
     public static Base60 fromLong(long value) {
-        return new Base60(BigInteger.valueOf(value), BigInteger.ONE);
+        return valueOf(value);
+    }
+
+    // Цілі від -128 до 3600 і регулярні обернені 1/n (n ≤ 3600) повертаються з кешу
+    public static Base60 valueOf(long value) {
+        if (value == Long.MIN_VALUE) {
+            return new Base60(BigInteger.valueOf(value), BigInteger.ONE);
+        }
+        return compact(value, 1L);
+    }
+
+    public static Base60 valueOf(long num, long den) {
+        return ofLong(num, den);
     }
 
     public static Base60 fromFraction(BigInteger num, BigInteger den) {
-        return new Base60(num, den);
+        return of(num, den);
     }
 
     public static Base60 fromFraction(int num, int den) {
-        return new Base60(BigInteger.valueOf(num), BigInteger.valueOf(den));
+        return ofLong(num, den);
     }
 
     public static Base60 fromFraction(long num, long den) {
-        return new Base60(BigInteger.valueOf(num), BigInteger.valueOf(den));
+        return ofLong(num, den);
     }
 
-    // --- Парсер типу 2:46:58.30:15 ---
+    // --- Парсер типу 2:46:58.30:15 або 0.4:(17:8:34) ---
+    // Однопрохідний, без регулярних виразів і проміжних рядків. Усі розряди (цілі й дробові)
+    // накопичуються як одне base-60 число, а k дробових розрядів дають знаменник 60^k.
+    // Період у дужках дає точний раціональний дріб зі знаменником виду 60^k · (60^p - 1).
+    // Помилки — IllegalArgumentException з позицією; у перевантаженнях із діапазоном це індекс
+    // у всьому text / utf8, а не зміщення від from / off.
     public static Base60 parse(String input) {
         Objects.requireNonNull(input);
-        boolean negative = input.startsWith("-");
-        if (negative) {
-            input = input.substring(1);
-        }
-        String[] parts = input.split("\\.");
-        BigInteger integerNum = parseIntegerPart(parts[0]);
-        BigInteger fracNum = BigInteger.ZERO;
-        BigInteger fracDen = BigInteger.ONE;
-        if (parts.length > 1) {
-            String[] fracDigits = parts[1].split(":");
-            fracDen = SIXTY.pow(fracDigits.length);
-            for (int i = 0; i < fracDigits.length; i++) {
-                int digit = Integer.parseInt(fracDigits[i].replaceAll("[^\\d]+", ""));
-                if (digit < 0 || digit >= 60) {
-                    throw new IllegalArgumentException("Digit must be 0-59");
+        return parse(input, 0, input.length());
+    }
+
+    public static Base60 parse(CharSequence text, int from, int to) {
+        Objects.requireNonNull(text);
+        Objects.checkFromToIndex(from, to, text.length());
+        return new Parser(text, from, to).parse();
+    }
+
+    // Розбір прямо з буфера вводу-виводу; формат суто ASCII, тож байти UTF-8 читаються як символи
+    public static Base60 parse(byte[] utf8, int off, int len) {
+        Objects.requireNonNull(utf8);
+        Objects.checkFromIndexSize(off, len, utf8.length);
+        return new Parser(new AsciiBytes(utf8), off, off + len).parse();
+    }
+
+    // --- Розбір клинопису (формат toSumerianString) ---
+    // Той самий однопрохідний розбір: кожен знак класифікується за таблицею кодових точок,
+    // розряди йдуть у спільний DigitAccumulator.
+    public static Base60 parseSumerian(CharSequence text) {
+        Objects.requireNonNull(text);
+        return parseSumerian(text, 0, text.length());
+    }
+
+    public static Base60 parseSumerian(CharSequence text, int from, int to) {
+        Objects.requireNonNull(text);
+        Objects.checkFromToIndex(from, to, text.length());
+        SumerianParser parser = new SumerianParser();
+        int pos = from;
+        while (pos < to) {
+            char c = text.charAt(pos);
+            if (Character.isHighSurrogate(c) && pos + 1 < to && Character.isLowSurrogate(text.charAt(pos + 1))) {
+                parser.accept(Character.toCodePoint(c, text.charAt(pos + 1)), pos);
+                pos += 2;
+            } else {
+                parser.accept(c, pos);
+                pos++;
+            }
+        }
+        return parser.finish(to);
+    }
+
+    // Знаки клинопису в UTF-8 — чотирибайтові послідовності; решта формату — ASCII
+    public static Base60 parseSumerian(byte[] utf8, int off, int len) {
+        Objects.requireNonNull(utf8);
+        Objects.checkFromIndexSize(off, len, utf8.length);
+        SumerianParser parser = new SumerianParser();
+        int pos = off;
+        int to = off + len;
+        while (pos < to) {
+            int b = utf8[pos];
+            if (b >= 0) {
+                parser.accept(b, pos);
+                pos++;
+            } else if ((b & 0xF8) == 0xF0 && pos + 3 < to
+                    && (utf8[pos + 1] & 0xC0) == 0x80 && (utf8[pos + 2] & 0xC0) == 0x80 && (utf8[pos + 3] & 0xC0) == 0x80) {
+                parser.accept((b & 0x07) << 18 | (utf8[pos + 1] & 0x3F) << 12
+                        | (utf8[pos + 2] & 0x3F) << 6 | (utf8[pos + 3] & 0x3F), pos);
+                pos += 4;
+            } else {
+                throw new IllegalArgumentException("Unexpected byte 0x"
+                        + Integer.toHexString(b & 0xFF) + " at position " + pos);
+            }
+        }
+        return parser.finish(to);
+    }
+
+    private static final class Parser {
+
+        private final CharSequence text;
+        private final int to;
+        private int pos;
+        private final DigitAccumulator digits = new DigitAccumulator();
+        private boolean periodic;
+
+        Parser(CharSequence text, int from, int to) {
+            this.text = text;
+            this.pos = from;
+            this.to = to;
+        }
+
+        Base60 parse() {
+            // Знак: '-' або, як колись у Integer.parseInt, необов'язковий '+'
+            boolean negative = pos < to && text.charAt(pos) == '-';
+            boolean plus = !negative && pos < to && text.charAt(pos) == '+';
+            if (negative || plus) {
+                pos++;
+            }
+            if (pos == to && !plus) {
+                return ZERO;  // як і раніше: порожній рядок чи самий '-' — нуль
+            }
+            int intDigits = 0;
+            if (pos < to && text.charAt(pos) != '.') {
+                intDigits = readGroups(false);
+            }
+            int fracDigits = 0;
+            if (pos < to) {
+                pos++;  // '.' — readGroups(false) зупиняється лише на ньому
+                if (pos < to) {
+                    fracDigits = readGroups(true);
                 }
-                BigInteger power = SIXTY.pow(fracDigits.length - 1 - i);
-                fracNum = fracNum.add(BigInteger.valueOf(digit).multiply(power));
             }
+            if (intDigits + fracDigits == 0) {
+                throw new IllegalArgumentException("No digits at position " + pos);
+            }
+            return digits.build(negative, fracDigits);
         }
-        // Збираємо в один дріб: (integerNum * fracDen + fracNum) / fracDen
-        BigInteger totalNum = integerNum.multiply(fracDen).add(fracNum);
-        if (negative) {
-            totalNum = totalNum.negate();
+
+        // Групи розрядів через ':' до '.' (лише в цілій частині) або до кінця; повертає їх кількість.
+        // У дробовій частині одна група може відкривати період '(' — він триває до ')' в кінці вводу.
+        private int readGroups(boolean fraction) {
+            int count = 0;
+            while (true) {
+                if (fraction && !periodic && pos < to && text.charAt(pos) == '(') {
+                    periodic = true;
+                    digits.markPeriod(count);
+                    pos++;
+                }
+                readDigit();
+                count++;
+                if (pos == to) {
+                    if (periodic) {
+                        throw new IllegalArgumentException("Missing ')' at position " + pos);
+                    }
+                    return count;
+                }
+                char c = text.charAt(pos);
+                if (c == ':') {
+                    pos++;
+                } else if (c == '.' && !fraction) {
+                    return count;
+                } else if (c == ')' && periodic && pos + 1 == to) {
+                    pos++;
+                    return count;
+                } else {
+                    throw unexpected(pos);
+                }
+            }
+        }
+
+        private void readDigit() {
+            int start = pos;
+            int digit = 0;
+            while (pos < to) {
+                char c = text.charAt(pos);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                digit = digit * 10 + (c - '0');
+                if (digit >= 60) {
+                    throw new IllegalArgumentException("Digit must be 0-59 at position " + start);
+                }
+                pos++;
+            }
+            if (pos == start) {
+                if (pos == to) {
+                    throw new IllegalArgumentException("Missing digit at position " + pos);
+                }
+                throw unexpected(pos);
+            }
+            digits.push(digit);
+        }
+
+        private IllegalArgumentException unexpected(int at) {
+            return new IllegalArgumentException("Unexpected character '" + text.charAt(at) + "' at position " + at);
+        }
+    }
+
+    // Розряди (цілі й дробові) накопичуються в long блоками по CHUNK_DIGITS; повні блоки йдуть у chunks.
+    // Спільний для текстового й клинописного розбору.
+    private static final class DigitAccumulator {
+
+        private long chunk;
+        private int chunkDigits;
+        private long[] chunks;
+        private int chunkCount;
+
+        // Знімок накопичувача перед '(' — значення всіх розрядів до періоду
+        private boolean periodic;
+        private long prefixChunk;
+        private int prefixChunkDigits;
+        private int prefixChunkCount;
+        private int prefixFracDigits;
+
+        void markPeriod(int fracDigits) {
+            periodic = true;
+            prefixChunk = chunk;
+            prefixChunkDigits = chunkDigits;
+            prefixChunkCount = chunkCount;
+            prefixFracDigits = fracDigits;
+        }
+
+        void push(int digit) {
+            chunk = chunk * 60 + digit;
+            if (++chunkDigits == CHUNK_DIGITS) {
+                if (chunks == null) {
+                    chunks = new long[16];
+                } else if (chunkCount == chunks.length) {
+                    chunks = Arrays.copyOf(chunks, chunkCount * 2);
+                }
+                chunks[chunkCount++] = chunk;
+                chunk = 0;
+                chunkDigits = 0;
+            }
+        }
+
+        // Без періоду: V / 60^f, де V — усі розряди як одне число, f — кількість дробових розрядів.
+        // З періодом довжини p після k дробових розрядів: (V - A) / (60^f - 60^k), де A — розряди до '('.
+        Base60 build(boolean negative, int fracDigits) {
+            int digits = chunkCount * CHUNK_DIGITS + chunkDigits;
+            if (digits < LONG_DIGITS) {
+                long value = longValue(chunkCount, chunk, chunkDigits);
+                long den = LONG_POW60[fracDigits];
+                if (periodic) {
+                    value -= longValue(prefixChunkCount, prefixChunk, prefixChunkDigits);
+                    den -= LONG_POW60[prefixFracDigits];
+                }
+                return ofLong(negative ? -value : value, den);
+            }
+            BigInteger value = bigValue(chunkCount, chunk, chunkDigits);
+            BigInteger den = pow60(fracDigits);
+            if (periodic) {
+                value = value.subtract(bigValue(prefixChunkCount, prefixChunk, prefixChunkDigits));
+                den = den.subtract(pow60(prefixFracDigits));
+            }
+            return of(negative ? value.negate() : value, den);
+        }
+
+        // Значення перших fullChunks блоків і неповного блоку; загалом менше LONG_DIGITS розрядів
+        private long longValue(int fullChunks, long partial, int partialDigits) {
+            return fullChunks == 0 ? partial : chunks[0] * LONG_POW60[partialDigits] + partial;
+        }
+
+        private BigInteger bigValue(int fullChunks, long partial, int partialDigits) {
+            BigInteger value = fullChunks == 0 ? BigInteger.ZERO : combineChunks(chunks, 0, fullChunks);
+            if (partialDigits > 0) {
+                value = value.multiply(BigInteger.valueOf(LONG_POW60[partialDigits])).add(BigInteger.valueOf(partial));
+            }
+            return value;
+        }
+
+        // Збалансоване складання блоків: молодша половина має 2^k блоків, тобто 2^(k+3) розрядів
+        private static BigInteger combineChunks(long[] chunks, int from, int to) {
+            int count = to - from;
+            if (count == 1) {
+                return BigInteger.valueOf(chunks[from]);
+            }
+            int k = 31 - Integer.numberOfLeadingZeros(count - 1);
+            int low = 1 << k;
+            BigInteger high = combineChunks(chunks, from, to - low);
+            return high.multiply(sixtyPow2k(k + CHUNK_LOG2)).add(combineChunks(chunks, to - low, to));
         }
-        return new Base60(totalNum, fracDen);
     }
 
-    private static BigInteger parseIntegerPart(String part) {
-        if (part.isEmpty()) {
-            return BigInteger.ZERO;
+    // Розряд — 𒑱 або до п'яти 𒌋 (десятки), за якими йде не більше одного знака одиниць.
+    // Розряди розділені пробілом, 𒑲 відокремлює дробову частину, '-' можливий лише на початку.
+    private static final class SumerianParser {
+
+        // Класи знаків U+12000–U+124FF: 1–9 — одиниці, далі десяток, нуль, роздільник; 0 — чужий знак
+        private static final int GLYPH_BASE = 0x12000;
+        private static final byte TEN = 10;
+        private static final byte ZERO = 11;
+        private static final byte FRACTION = 12;
+        private static final byte[] GLYPH_CLASSES = buildGlyphClasses();
+
+        private final DigitAccumulator digits = new DigitAccumulator();
+        private boolean negative;
+        private boolean fraction;
+        private int count;       // усі розряди
+        private int fracDigits;
+        private boolean started; // уже був знак або '-'
+
+        // Поточний розряд
+        private int tens;
+        private int ones;
+        private boolean zero;
+        private int groupStart = -1;
+
+        private static byte[] buildGlyphClasses() {
+            byte[] classes = new byte[0x500];
+            for (int ones = 1; ones <= 9; ones++) {
+                classes[CuneiformEncoder.onesGlyph(ones) - GLYPH_BASE] = (byte) ones;
+            }
+            classes[CuneiformEncoder.TEN - GLYPH_BASE] = TEN;
+            classes[CuneiformEncoder.ZERO - GLYPH_BASE] = ZERO;
+            classes[CuneiformEncoder.FRACTION_SEPARATOR - GLYPH_BASE] = FRACTION;
+            return classes;
+        }
+
+        void accept(int codePoint, int at) {
+            int index = codePoint - GLYPH_BASE;
+            int glyph = index >= 0 && index < GLYPH_CLASSES.length ? GLYPH_CLASSES[index] : 0;
+            if (glyph == 0) {
+                if (codePoint == ' ' && groupStart >= 0) {
+                    endGroup();
+                } else if (codePoint == '-' && !started) {
+                    negative = true;
+                } else {
+                    throw unexpected(codePoint, at);
+                }
+            } else if (glyph == FRACTION) {
+                if (fraction || groupStart < 0) {
+                    throw unexpected(codePoint, at);
+                }
+                endGroup();
+                fraction = true;
+            } else {
+                if (groupStart < 0) {
+                    groupStart = at;
+                } else if (zero || ones > 0 || glyph == ZERO || glyph == TEN && tens == 5) {
+                    // 𒑱 стоїть сам, одиниці — останні, десятків не більше п'яти
+                    throw new IllegalArgumentException("Malformed digit at position " + groupStart);
+                }
+                if (glyph == ZERO) {
+                    zero = true;
+                } else if (glyph == TEN) {
+                    tens++;
+                } else {
+                    ones = glyph;
+                }
+            }
+            started = true;
+        }
+
+        Base60 finish(int to) {
+            if (groupStart < 0) {
+                if (count == 0 && !fraction) {
+                    throw new IllegalArgumentException("No digits at position " + to);
+                }
+                throw new IllegalArgumentException("Missing digit at position " + to);
+            }
+            endGroup();
+            return digits.build(negative, fracDigits);
         }
-        String[] digits = part.split(":");
-        BigInteger result = BigInteger.ZERO;
-        for (String d : digits) {
-            int digit = Integer.parseInt(d);
-            if (digit < 0 || digit >= 60) {
-                throw new IllegalArgumentException("Digit must be 0-59");
+
+        private void endGroup() {
+            digits.push(tens * 10 + ones);
+            count++;
+            if (fraction) {
+                fracDigits++;
             }
-            result = result.multiply(SIXTY).add(BigInteger.valueOf(digit));
+            tens = 0;
+            ones = 0;
+            zero = false;
+            groupStart = -1;
+        }
+
+        private static IllegalArgumentException unexpected(int codePoint, int at) {
+            return new IllegalArgumentException("Unexpected character '" + Character.toString(codePoint)
+                    + "' at position " + at);
+        }
+    }
+
+    // Байти ASCII як CharSequence без копіювання
+    private static final class AsciiBytes implements CharSequence {
+
+        private final byte[] bytes;
+
+        AsciiBytes(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int length() {
+            return bytes.length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (bytes[index] & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().substring(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return new String(bytes, StandardCharsets.ISO_8859_1);
         }
-        return result;
     }
 
     // --- Конвертація в base-60 список розрядів ---
-    private List<Integer> toBase60IntegerDigits() {
-        BigInteger absIntPart = numerator.abs().divide(denominator);  // Ціла частина
-        if (absIntPart.equals(BigInteger.ZERO)) {
-            return List.of(0);
-        }
-        List<Integer> digits = new ArrayList<>();
-        while (absIntPart.compareTo(BigInteger.ZERO) > 0) {
-            BigInteger[] divRem = absIntPart.divideAndRemainder(SIXTY);
-            digits.add(divRem[1].intValue());
-            absIntPart = divRem[0];
-        }
-        Collections.reverse(digits);
-        return digits;
-    }
-
-    private List<Integer> toBase60FractionDigits(int precision) {
-        BigInteger absRemainder = numerator.abs().remainder(denominator);
-        if (absRemainder.equals(BigInteger.ZERO)) {
-            return Collections.emptyList();
-        }
-        List<Integer> digits = new ArrayList<>();
-        for (int i = 0; i < precision; i++) {
-            absRemainder = absRemainder.multiply(SIXTY);
-            BigInteger digit = absRemainder.divide(denominator);
-            digits.add(digit.intValue());
-            absRemainder = absRemainder.remainder(denominator);
-            if (absRemainder.equals(BigInteger.ZERO)) {
-                break;
+    byte[] toBase60IntegerDigits() {
+        if (isCompact()) {
+            return toBase60Digits(Math.abs(num / den));  // Ціла частина
+        }
+        return toBase60Digits(bigNum.abs().divide(bigDen));
+    }
+
+    // Розряди невід'ємного n, старший першим; для 0 — один нульовий розряд
+    private static byte[] toBase60Digits(long n) {
+        byte[] buffer = new byte[LONG_DIGITS];
+        int pos = LONG_DIGITS;
+        do {
+            buffer[--pos] = (byte) (n % 60);
+            n /= 60;
+        } while (n != 0);
+        return Arrays.copyOfRange(buffer, pos, LONG_DIGITS);
+    }
+
+    // Рекурсивне ділення на 60^(2^k): складність близька до BigInteger.multiply замість квадратичної
+    private static byte[] toBase60Digits(BigInteger n) {
+        if (n.bitLength() <= 63) {
+            return toBase60Digits(n.longValue());
+        }
+        int count = (int) (n.bitLength() * LOG60_OF_2) + 2;  // верхня оцінка кількості розрядів
+        byte[] buffer = new byte[count];
+        writeBase60Digits(n, buffer, 0, count);
+        int first = 0;
+        while (buffer[first] == 0) {
+            first++;
+        }
+        return Arrays.copyOfRange(buffer, first, count);
+    }
+
+    // Записує n рівно у count розрядів buffer[pos .. pos + count), доповнюючи провідними нулями
+    private static void writeBase60Digits(BigInteger n, byte[] buffer, int pos, int count) {
+        if (n.bitLength() <= 63) {
+            long value = n.longValue();
+            for (int i = pos + count - 1; i >= pos; i--) {
+                buffer[i] = (byte) (value % 60);
+                value /= 60;
             }
+            return;
         }
-        return digits;
+        // молодша половина має 2^k розрядів, де 2^k < count <= 2^(k+1)
+        int k = 31 - Integer.numberOfLeadingZeros(count - 1);
+        int low = 1 << k;
+        BigInteger[] divRem = n.divideAndRemainder(sixtyPow2k(k));
+        writeBase60Digits(divRem[0], buffer, pos, count - low);
+        writeBase60Digits(divRem[1], buffer, pos + count - low, low);
     }
 
-    // --- Форматування ---
-    public String toString(int precision) {
-        List<Integer> intDigits = toBase60IntegerDigits();
-        List<Integer> fracDigits = toBase60FractionDigits(precision);
+    // 60^(2^k) з кешу; таблиця росте за потреби (гонка безпечна — значення однакові)
+    private static BigInteger sixtyPow2k(int k) {
+        BigInteger[] table = sixtyPow2kTable;
+        if (k < table.length) {
+            return table[k];
+        }
+        BigInteger[] grown = Arrays.copyOf(table, k + 1);
+        for (int i = table.length; i <= k; i++) {
+            grown[i] = grown[i - 1].multiply(grown[i - 1]);
+        }
+        sixtyPow2kTable = grown;
+        return grown[k];
+    }
 
-        // --- обрізання нулів у кінці ---
-        int lastNonZero = fracDigits.size() - 1;
-        while (lastNonZero >= 0 && fracDigits.get(lastNonZero) == 0) {
-            lastNonZero--;
+    private static void appendDigits(Appendable out, byte[] digits) throws IOException {
+        for (int i = 0; i < digits.length; i++) {
+            if (i > 0) {
+                out.append(':');
+            }
+            appendDigit(out, digits[i]);
+        }
+    }
+
+    private static void appendDigit(Appendable out, int digit) throws IOException {
+        if (digit >= 10) {
+            out.append((char) DIGIT_TENS[digit]);
         }
+        out.append((char) DIGIT_ONES[digit]);
+    }
+
+    private static void putDigits(ByteBuffer buffer, byte[] digits) {
+        for (int i = 0; i < digits.length; i++) {
+            if (i > 0) {
+                buffer.put((byte) ':');
+            }
+            int digit = digits[i];
+            if (digit >= 10) {
+                buffer.put(DIGIT_TENS[digit]);
+            }
+            buffer.put(DIGIT_ONES[digit]);
+        }
+    }
+
+    // Кількість символів у записі розрядів через ':'
+    private static int formattedLength(byte[] digits) {
+        int length = Math.max(digits.length - 1, 0);
+        for (byte digit : digits) {
+            length += digit >= 10 ? 2 : 1;
+        }
+        return length;
+    }
 
-        if (lastNonZero >= 0) {
-            fracDigits = fracDigits.subList(0, lastNonZero + 1);
+    // Дробові розряди, обрізані до precision, без нулів у кінці
+    byte[] toBase60FractionDigits(int precision) {
+        byte[] digits;
+        if (isCompact()) {
+            long absRemainder = Math.abs(num % den);
+            if (absRemainder == 0 || precision <= 0) {
+                return NO_DIGITS;
+            }
+            digits = fractionDigits(absRemainder, den, precision);
         } else {
-            fracDigits = Collections.emptyList();
+            BigInteger absRemainder = bigNum.abs().remainder(bigDen);
+            if (absRemainder.signum() == 0 || precision <= 0) {
+                return NO_DIGITS;
+            }
+            digits = fractionDigits(absRemainder, bigDen, precision);
+        }
+        // --- обрізання нулів у кінці ---
+        int length = digits.length;
+        while (length > 0 && digits[length - 1] == 0) {
+            length--;
+        }
+        return length == digits.length ? digits : Arrays.copyOf(digits, length);
+    }
+
+    // Перші count розрядів r/den (0 <= r < den) у base-60. Генерація зупиняється на нульовому залишку,
+    // а масив росте разом із розрядами — його розмір задає саме значення, а не лише запитана точність.
+    private static byte[] fractionDigits(long r, long den, int count) {
+        if (den > MAX_LONG_REMAINDER_DEN) {
+            return fractionDigits(BigInteger.valueOf(r), BigInteger.valueOf(den), count);
+        }
+        byte[] digits = new byte[Math.min(count, MIN_FRACTION_DIGITS)];
+        int length = 0;
+        while (length < count && r != 0) {
+            if (length == digits.length) {
+                digits = Arrays.copyOf(digits, (int) Math.min(count, 2L * length));
+            }
+            r *= 60;
+            digits[length++] = (byte) (r / den);
+            r %= den;
+        }
+        return length == digits.length ? digits : Arrays.copyOf(digits, length);
+    }
+
+    // Блоками по B розрядів: q = ⌊r · 60^B / den⌋ ділиться на розряди рекурсивно, остача переходить
+    // у наступний блок. B не перевищує більшого з FRACTION_BLOCK_DIGITS і довжини den, тож проміжні
+    // числа обмежені розміром знаменника, а не точністю.
+    private static byte[] fractionDigits(BigInteger r, BigInteger den, int count) {
+        if (den.bitLength() <= 63 && den.longValue() <= MAX_LONG_REMAINDER_DEN) {
+            return fractionDigits(r.longValue(), den.longValue(), count);
         }
+        int blockDigits = Math.max(FRACTION_BLOCK_DIGITS, (int) (den.bitLength() * LOG60_OF_2));
+        byte[] digits = new byte[Math.min(count, blockDigits)];
+        int length = 0;
+        while (length < count && r.signum() != 0) {
+            int size = Math.min(blockDigits, count - length);
+            if (length + size > digits.length) {
+                digits = Arrays.copyOf(digits, (int) Math.min(count, Math.max(2L * length, length + size)));
+            }
+            BigInteger[] divRem = r.multiply(pow60(size)).divideAndRemainder(den);
+            writeBase60Digits(divRem[0], digits, length, size);
+            r = divRem[1];
+            length += size;
+        }
+        return length == digits.length ? digits : Arrays.copyOf(digits, length);
+    }
 
-        String intPart = intDigits.stream()
-                .map(String::valueOf)
-                .collect(Collectors.joining(":"));
+    private static BigInteger pow60(int n) {
+        return n < LONG_DIGITS ? BigInteger.valueOf(LONG_POW60[n]) : SIXTY.pow(n);
+    }
+
+    // --- Форматування ---
+    // Розряди пишуться прямо в буфер викликача з таблиць DIGIT_TENS / DIGIT_ONES;
+    // String-методи — тонкі обгортки над formatTo.
+    public String toString(int precision) {
+        return formatTo(new StringBuilder(), precision).toString();
+    }
 
-        String result = intPart;
+    public StringBuilder formatTo(StringBuilder sb, int precision) {
+        try {
+            formatTo((Appendable) sb, precision);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);  // StringBuilder не кидає IOException
+        }
+        return sb;
+    }
 
-        if (!fracDigits.isEmpty()) {
-            String fracPart = fracDigits.stream()
-                    .map(String::valueOf)
-                    .collect(Collectors.joining(":"));
-            result += "." + fracPart;
+    // Підходить і для Writer, і для CharBuffer (нестача місця — BufferOverflowException)
+    public Appendable formatTo(Appendable out, int precision) throws IOException {
+        Objects.requireNonNull(out);
+        byte[] intDigits = toBase60IntegerDigits();
+        byte[] fracDigits = toBase60FractionDigits(precision);
+        if (signum() < 0) {
+            out.append('-');
+        }
+        appendDigits(out, intDigits);
+        if (fracDigits.length > 0) {
+            out.append('.');
+            appendDigits(out, fracDigits);
         }
+        return out;
+    }
 
-        return numerator.signum() < 0 ? "-" + result : result;
+    // Запис у UTF-8 (ASCII) байти. Якщо місця не вистачає — BufferOverflowException,
+    // і буфер лишається незмінним.
+    public ByteBuffer writeTo(ByteBuffer buffer, int precision) {
+        Objects.requireNonNull(buffer);
+        byte[] intDigits = toBase60IntegerDigits();
+        byte[] fracDigits = toBase60FractionDigits(precision);
+        boolean negative = signum() < 0;
+        int length = (negative ? 1 : 0) + formattedLength(intDigits)
+                + (fracDigits.length > 0 ? 1 + formattedLength(fracDigits) : 0);
+        if (buffer.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        if (negative) {
+            buffer.put((byte) '-');
+        }
+        putDigits(buffer, intDigits);
+        if (fracDigits.length > 0) {
+            buffer.put((byte) '.');
+            putDigits(buffer, fracDigits);
+        }
+        return buffer;
     }
 
     public String toBase60WithPeriod() {
-        boolean negative = numerator.signum() < 0;
-        BigInteger absNum = numerator.abs();
+        StringBuilder sb = new StringBuilder();
+        try {
+            formatWithPeriodTo(sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);  // StringBuilder не кидає IOException
+        }
+        return sb.toString();
+    }
+
+    public Appendable formatWithPeriodTo(Appendable out) throws IOException {
+        Objects.requireNonNull(out);
+        BigInteger absNum = numerator().abs();
+        BigInteger denominator = denominator();
         BigInteger intPart = absNum.divide(denominator);
         BigInteger remainder = absNum.remainder(denominator);
 
-        StringBuilder sb = new StringBuilder();
+        if (signum() < 0) {
+            out.append('-');
+        }
 
         // Ціла частина
-        List<Integer> intDigits = toBase60IntegerDigitsFor(intPart);  // див. нижче
-        String intStr = intDigits.stream()
-                .map(String::valueOf)
-                .collect(Collectors.joining(":"));
-        sb.append(intStr);
+        appendDigits(out, toBase60Digits(intPart));
 
-        if (remainder.equals(BigInteger.ZERO)) {
-            return negative ? "-" + sb : sb.toString();
+        if (remainder.signum() == 0) {
+            return out;
         }
 
-        sb.append(".");
+        out.append('.');
+
+        // Довжини передперіоду й періоду відомі наперед; розряди йдуть одним потоковим проходом
+        // блоками FractionDigits — пам'ять не залежить від довжини періоду
+        PeriodShape shape = periodShape(denominator);
+        long preperiod = shape.preperiod();
+        long period = periodLength(shape.cofactor());
+        long total = preperiod + period;
+        PrimitiveIterator.OfInt digits = Spliterators.iterator(isCompact()
+                ? new FractionDigits(Math.abs(num % den), den, total)
+                : new FractionDigits(remainder, denominator, total));
+        for (long i = 0; i < total; i++) {
+            if (i > 0) {
+                out.append(':');
+            }
+            if (i == preperiod && period > 0) {
+                out.append('(');
+            }
+            appendDigit(out, digits.nextInt());
+        }
 
-        Map<BigInteger, Integer> seen = new HashMap<>();
-        List<Integer> digits = new ArrayList<>();
-        Integer cycleStart = null;
+        if (period > 0) {
+            out.append(')');
+        }
+        return out;
+    }
 
-        BigInteger current = remainder;
-        while (!current.equals(BigInteger.ZERO)) {
-            if (seen.containsKey(current)) {
-                cycleStart = seen.get(current);
-                break;
-            }
-            seen.put(current, digits.size());
+    // --- Період у base-60 ---
+    // Знаменник d = 2^a · 3^b · 5^c · m, де gcd(m, 60) = 1. Оскільки 60 = 2^2 · 3 · 5,
+    // передперіод має max(⌈a/2⌉, b, c) розрядів, а період — мультиплікативний порядок 60 за модулем m.
+    private record PeriodShape(int preperiod, BigInteger cofactor) {
+    }
+
+    private static PeriodShape periodShape(BigInteger den) {
+        int twos = den.getLowestSetBit();
+        BigInteger m = den.shiftRight(twos);
+        int threes = 0;
+        BigInteger[] divRem = m.divideAndRemainder(BigInteger.valueOf(3));
+        while (divRem[1].signum() == 0) {
+            m = divRem[0];
+            threes++;
+            divRem = m.divideAndRemainder(BigInteger.valueOf(3));
+        }
+        int fives = 0;
+        divRem = m.divideAndRemainder(BigInteger.valueOf(5));
+        while (divRem[1].signum() == 0) {
+            m = divRem[0];
+            fives++;
+            divRem = m.divideAndRemainder(BigInteger.valueOf(5));
+        }
+        return new PeriodShape(Math.max((twos + 1) / 2, Math.max(threes, fives)), m);
+    }
+
+    private static long periodLength(BigInteger cofactor) {
+        if (cofactor.equals(BigInteger.ONE)) {
+            return 0;
+        }
+        if (cofactor.bitLength() <= 63) {
+            return Primes.multiplicativeOrder(60, cofactor.longValue());
+        }
+        return Primes.multiplicativeOrder(60, cofactor);
+    }
+
+    // Кількість розрядів між крапкою та початком періоду (для скінченних дробів — усі дробові розряди)
+    public int preperiodLength() {
+        return periodShape(denominator()).preperiod();
+    }
+
+    // Довжина періоду в base-60; 0, якщо дріб скінченний. ArithmeticException, якщо період
+    // не вміщується в long
+    public long periodLength() {
+        return periodLength(periodShape(denominator()).cofactor());
+    }
+
+    // --- Ліниві потоки розрядів ---
+    // Розряди обчислюються на вимогу, тож потік можна обірвати після перших кількох.
+    // Ціла частина — від старшого розряду; для нуля — один розряд 0. Знак ігнорується.
+    public IntStream integerDigits() {
+        Spliterator.OfInt digits = isCompact()
+                ? new IntegerDigits(Math.abs(num / den))
+                : new IntegerDigits(bigNum.abs().divide(bigDen));
+        return StreamSupport.intStream(digits, false);
+    }
+
+    // Дробова частина: скінченна для регулярних знаменників, інакше нескінченна (періодична)
+    public IntStream fractionDigits() {
+        PeriodShape shape = periodShape(denominator());
+        long count = shape.cofactor().equals(BigInteger.ONE) ? shape.preperiod() : Long.MAX_VALUE;
+        Spliterator.OfInt digits = isCompact()
+                ? new FractionDigits(Math.abs(num % den), den, count)
+                : new FractionDigits(bigNum.abs().remainder(bigDen), bigDen, count);
+        return StreamSupport.intStream(digits, false);
+    }
+
+    // Для потокових кодувальників. Компактні значення мають не більше 11 цілих розрядів,
+    // тож їх дешевше розкласти в масив одразу; великі — лінивими ітераторами без Stream-обгортки.
+    // Дробових — не більше places, без пошуку періоду й без нулів у кінці, як у toString(places).
+    PrimitiveIterator.OfInt integerDigitIterator() {
+        if (isCompact()) {
+            return new ByteDigits(toBase60Digits(Math.abs(num / den)));
+        }
+        return Spliterators.iterator(new IntegerDigits(bigNum.abs().divide(bigDen)));
+    }
 
-            current = current.multiply(SIXTY);
-            BigInteger digit = current.divide(denominator);
-            digits.add(digit.intValue());
-            current = current.remainder(denominator);
+    PrimitiveIterator.OfInt fractionDigitIterator(int places) {
+        if (isCompact()) {
+            return new ByteDigits(toBase60FractionDigits(places));
+        }
+        BigInteger r = bigNum.abs().remainder(bigDen);
+        return new TrimmedDigits(Spliterators.iterator(new FractionDigits(r, bigDen, r.signum() == 0 ? 0 : places)));
+    }
+
+    // Нулі відкладаються й віддаються лише тоді, коли за ними йде ненульовий розряд
+    private static final class TrimmedDigits implements PrimitiveIterator.OfInt {
+
+        private final PrimitiveIterator.OfInt digits;
+        private long zeros;
+        private int digit;  // ненульовий розряд після відкладених нулів; 0 — ще не знайдено
+
+        TrimmedDigits(PrimitiveIterator.OfInt digits) {
+            this.digits = digits;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (digit != 0) {
+                return true;
+            }
+            while (digits.hasNext()) {
+                int next = digits.nextInt();
+                if (next != 0) {
+                    digit = next;
+                    return true;
+                }
+                zeros++;
+            }
+            return false;
         }
 
-        for (int i = 0; i < digits.size(); i++) {
-            if (cycleStart != null && i == cycleStart) {
-                sb.append("(");
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
             }
-            sb.append(digits.get(i));
-            if (i < digits.size() - 1) {
-                sb.append(":");
+            if (zeros > 0) {
+                zeros--;
+                return 0;
             }
+            int next = digit;
+            digit = 0;
+            return next;
+        }
+    }
+
+    private static final class ByteDigits implements PrimitiveIterator.OfInt {
+
+        private final byte[] digits;
+        private int pos;
+
+        ByteDigits(byte[] digits) {
+            this.digits = digits;
         }
 
-        if (cycleStart != null) {
-            sb.append(")");
+        @Override
+        public boolean hasNext() {
+            return pos < digits.length;
         }
 
-        return negative ? "-" + sb : sb.toString();
+        @Override
+        public int nextInt() {
+            if (pos == digits.length) {
+                throw new NoSuchElementException();
+            }
+            return digits[pos++];
+        }
     }
 
-    private List<Integer> toBase60IntegerDigitsFor(BigInteger n) {
-        if (n.equals(BigInteger.ZERO)) {
-            return List.of(0);
+    // Стек ще не розкладених частин: кожна частина ділиться навпіл на 60^(2^k), доки не вміститься
+    // в long; пам'ять — O(log n) частин, а перший розряд коштує лише спуск лівою гілкою.
+    private static final class IntegerDigits extends Spliterators.AbstractIntSpliterator {
+
+        private final BigInteger[] pending = new BigInteger[32];
+        private final int[] pendingWidth = new int[32];
+        private int top;
+        private long leaf;
+        private int leafWidth;
+        private boolean started;
+
+        IntegerDigits(long n) {
+            super(LONG_DIGITS, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+            this.leaf = n;
+            this.leafWidth = LONG_DIGITS;
         }
-        List<Integer> digits = new ArrayList<>();
-        while (n.compareTo(BigInteger.ZERO) > 0) {
-            BigInteger[] divRem = n.divideAndRemainder(SIXTY);
-            digits.add(divRem[1].intValue());
-            n = divRem[0];
+
+        IntegerDigits(BigInteger n) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+            pending[0] = n;
+            pendingWidth[0] = (int) (n.bitLength() * LOG60_OF_2) + 2;
+            top = 1;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            Objects.requireNonNull(action);
+            while (true) {
+                if (leafWidth > 0) {
+                    // long < 60^11, тож розряди понад LONG_DIGITS — провідні нулі
+                    int digit = leafWidth > LONG_DIGITS ? 0 : (int) (leaf / LONG_POW60[leafWidth - 1] % 60);
+                    leafWidth--;
+                    // провідні нулі пропускаємо, окрім єдиного розряду нуля
+                    if (digit == 0 && !started && (leafWidth > 0 || top > 0)) {
+                        continue;
+                    }
+                    started = true;
+                    action.accept(digit);
+                    return true;
+                }
+                if (top == 0) {
+                    return false;
+                }
+                top--;
+                BigInteger value = pending[top];
+                int width = pendingWidth[top];
+                pending[top] = null;
+                while (value.bitLength() > 63) {
+                    int k = 31 - Integer.numberOfLeadingZeros(width - 1);
+                    int low = 1 << k;
+                    BigInteger[] divRem = value.divideAndRemainder(sixtyPow2k(k));
+                    pending[top] = divRem[1];
+                    pendingWidth[top] = low;
+                    top++;
+                    value = divRem[0];
+                    width -= low;
+                }
+                leaf = value.longValue();
+                leafWidth = width;
+            }
+        }
+    }
+
+    // Для long-знаменників — по розряду в long; інакше блоками: один multiply на 60^B і одне ділення
+    // дають B розрядів, а знаменник росте не більше ніж удвічі від розміру den.
+    private static final class FractionDigits extends Spliterators.AbstractIntSpliterator {
+
+        private static final int MIN_BLOCK_DIGITS = 64;
+
+        private long remaining;
+        private long r;
+        private final long den;
+        private BigInteger bigR;
+        private final BigInteger bigDen;
+        private final int blockDigits;
+        private byte[] block;
+        private int blockPos;
+
+        FractionDigits(long r, long den, long count) {
+            super(count, characteristics(count));
+            if (den > MAX_LONG_REMAINDER_DEN) {
+                this.den = 0;
+                this.bigR = BigInteger.valueOf(r);
+                this.bigDen = BigInteger.valueOf(den);
+            } else {
+                this.r = r;
+                this.den = den;
+                this.bigDen = null;
+            }
+            this.remaining = count;
+            this.blockDigits = MIN_BLOCK_DIGITS;
+        }
+
+        FractionDigits(BigInteger r, BigInteger den, long count) {
+            super(count, characteristics(count));
+            this.den = 0;
+            this.bigR = r;
+            this.bigDen = den;
+            this.remaining = count;
+            this.blockDigits = Math.max(MIN_BLOCK_DIGITS, (int) (den.bitLength() * LOG60_OF_2));
+        }
+
+        private static int characteristics(long count) {
+            int base = Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+            return count == Long.MAX_VALUE ? base : base | Spliterator.SIZED;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            Objects.requireNonNull(action);
+            if (remaining == 0) {
+                return false;
+            }
+            // Нульовий залишок — далі лише нулі: потік обривається (для fractionDigits() це саме кінець
+            // передперіоду, а fractionDigitIterator нулі в кінці й так відкидає)
+            if (bigDen == null ? r == 0 : bigR.signum() == 0 && (block == null || blockPos == block.length)) {
+                remaining = 0;
+                return false;
+            }
+            if (remaining != Long.MAX_VALUE) {
+                remaining--;
+            }
+            if (bigDen == null) {
+                r *= 60;
+                action.accept((int) (r / den));
+                r %= den;
+                return true;
+            }
+            if (block == null || blockPos == block.length) {
+                int size = (int) Math.min(blockDigits, remaining == Long.MAX_VALUE ? blockDigits : remaining + 1);
+                BigInteger[] divRem = bigR.multiply(pow60(size)).divideAndRemainder(bigDen);
+                block = new byte[size];
+                writeBase60Digits(divRem[0], block, 0, size);
+                bigR = divRem[1];
+                blockPos = 0;
+            }
+            action.accept(block[blockPos++]);
+            return true;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
         }
-        Collections.reverse(digits);
-        return digits;
     }
 
     @Override
@@ -299,113 +1309,351 @@ public final class Base60 extends Number implements Comparable<Base60> {
     // Розряди розділені пробілом; 𒑲 відокремлює цілу частину від дробової.
     // Нуль у будь-якій позиції: 𒑱
     // Від'ємні числа позначаються знаком «-» (клинопис знака мінус не мав).
+    // Кодування — CuneiformEncoder; тут лише обгортки з точністю за замовчуванням або заданою.
+    // Від'ємна точність, як і в CuneiformEncoder, — IllegalArgumentException.
     public String toSumerianString() {
-        List<Integer> intDigits = toBase60IntegerDigits();
-        List<Integer> fracDigits = toBase60FractionDigits(10);
-
-        // обрізаємо нулі в кінці дробової частини
-        int lastNonZero = fracDigits.size() - 1;
-        while (lastNonZero >= 0 && fracDigits.get(lastNonZero) == 0) {
-            lastNonZero--;
-        }
-        fracDigits = lastNonZero >= 0
-                ? fracDigits.subList(0, lastNonZero + 1)
-                : Collections.emptyList();
-
-        String intPart = intDigits.stream()
-                .map(d -> CUNEIFORM_DIGITS[d])
-                .collect(Collectors.joining(" "));
+        return CuneiformEncoder.DEFAULT.encode(this);
+    }
 
-        String result = intPart;
-        if (!fracDigits.isEmpty()) {
-            String fracPart = fracDigits.stream()
-                    .map(d -> CUNEIFORM_DIGITS[d])
-                    .collect(Collectors.joining(" "));
-            result += CUNEIFORM_FRAC + fracPart;
-        }
+    public String toSumerianString(int precision) {
+        return new CuneiformEncoder(precision).encode(this);
+    }
 
-        return numerator.signum() < 0 ? "-" + result : result;
+    public Appendable formatSumerianTo(Appendable out, int precision) throws IOException {
+        return new CuneiformEncoder(precision).encode(this, out);
     }
 
     // --- Доступ до десяткового значення ---
     public BigDecimal toDecimal() {
-        return new BigDecimal(numerator).divide(new BigDecimal(denominator), MC);
+        return new BigDecimal(numerator()).divide(new BigDecimal(denominator()), MC);
     }
 
     public BigInteger toInteger() {
-        return numerator.divide(denominator);
+        if (isCompact()) {
+            return BigInteger.valueOf(num / den);
+        }
+        return bigNum.divide(bigDen);
     }
 
     // --- Арифметика ---
+    // Перехресне скорочення (Кнут, TAOCP 4.5.1): GCD береться від чисел розміру операндів, а не добутків,
+    // і результат одразу нескоротний — довірений конструктор не нормалізує його повторно.
+    // Для двох компактних операндів рахуємо в long; переповнення (Math.*Exact) переводить на BigInteger.
     public Base60 add(Base60 other) {
-        BigInteger newNum = this.numerator.multiply(other.denominator)
-                .add(other.numerator.multiply(this.denominator));
-        BigInteger newDen = this.denominator.multiply(other.denominator);
-        return new Base60(newNum, newDen);
+        if (this.isCompact() && other.isCompact()) {
+            Base60 sum = addCompact(this.num, this.den, other.num, other.den);
+            if (sum != null) {
+                return sum;
+            }
+        }
+        return addBig(this.numerator(), this.denominator(), other.numerator(), other.denominator());
     }
 
     public Base60 subtract(Base60 other) {
-        BigInteger newNum = this.numerator.multiply(other.denominator)
-                .subtract(other.numerator.multiply(this.denominator));
-        BigInteger newDen = this.denominator.multiply(other.denominator);
-        return new Base60(newNum, newDen);
+        if (this.isCompact() && other.isCompact()) {
+            Base60 difference = addCompact(this.num, this.den, -other.num, other.den);
+            if (difference != null) {
+                return difference;
+            }
+        }
+        return addBig(this.numerator(), this.denominator(), other.numerator().negate(), other.denominator());
+    }
+
+    // a/b + c/d: g = gcd(b, d), t = a·(d/g) + c·(b/g), g2 = gcd(t, g) → (t/g2) / ((b/g)·(d/g2)).
+    // null — переповнення long.
+    private static Base60 addCompact(long a, long b, long c, long d) {
+        try {
+            long g = gcd(b, d);
+            if (g == 1) {
+                return reducedLong(Math.addExact(Math.multiplyExact(a, d), Math.multiplyExact(c, b)),
+                        Math.multiplyExact(b, d));
+            }
+            long t = Math.addExact(Math.multiplyExact(a, d / g), Math.multiplyExact(c, b / g));
+            if (t == 0) {
+                return ZERO;
+            }
+            if (t == Long.MIN_VALUE) {
+                return null;
+            }
+            long g2 = gcd(Math.abs(t), g);
+            return reducedLong(t / g2, Math.multiplyExact(b / g, d / g2));
+        } catch (ArithmeticException overflow) {
+            return null;
+        }
     }
 
+    private static Base60 addBig(BigInteger a, BigInteger b, BigInteger c, BigInteger d) {
+        BigInteger g = b.gcd(d);
+        if (g.equals(BigInteger.ONE)) {
+            return new Base60(a.multiply(d).add(c.multiply(b)), b.multiply(d));
+        }
+        BigInteger t = a.multiply(d.divide(g)).add(c.multiply(b.divide(g)));
+        if (t.signum() == 0) {
+            return ZERO;
+        }
+        BigInteger g2 = t.gcd(g);
+        return new Base60(t.divide(g2), b.divide(g).multiply(d.divide(g2)));
+    }
+
+    // a/b · c/d: g1 = gcd(a, d), g2 = gcd(c, b) → ((a/g1)·(c/g2)) / ((b/g2)·(d/g1))
     public Base60 multiply(Base60 other) {
-        BigInteger newNum = this.numerator.multiply(other.numerator);
-        BigInteger newDen = this.denominator.multiply(other.denominator);
-        return new Base60(newNum, newDen);
+        if (this.signum() == 0 || other.signum() == 0) {
+            return ZERO;
+        }
+        if (this.isCompact() && other.isCompact()) {
+            try {
+                long g1 = gcd(Math.abs(this.num), other.den);
+                long g2 = gcd(Math.abs(other.num), this.den);
+                return reducedLong(Math.multiplyExact(this.num / g1, other.num / g2),
+                        Math.multiplyExact(this.den / g2, other.den / g1));
+            } catch (ArithmeticException overflow) {
+                // переходимо до BigInteger
+            }
+        }
+        return multiplyBig(this.numerator(), this.denominator(), other.numerator(), other.denominator());
     }
 
+    // a/b ÷ c/d = a/b · d/c; знак c переносимо в чисельник
     public Base60 divide(Base60 other) {
-        if (other.numerator.signum() == 0) {
+        if (other.signum() == 0) {
             throw new ArithmeticException("Division by zero");
         }
-        BigInteger newNum = this.numerator.multiply(other.denominator);
-        BigInteger newDen = this.denominator.multiply(other.numerator);
+        if (this.signum() == 0) {
+            return ZERO;
+        }
+        if (this.isCompact() && other.isCompact()) {
+            try {
+                long g1 = gcd(Math.abs(this.num), Math.abs(other.num));
+                long g2 = gcd(this.den, other.den);
+                long newNum = Math.multiplyExact(this.num / g1, other.den / g2);
+                long newDen = Math.multiplyExact(this.den / g2, Math.abs(other.num) / g1);
+                return reducedLong(other.num < 0 ? Math.negateExact(newNum) : newNum, newDen);
+            } catch (ArithmeticException overflow) {
+                // переходимо до BigInteger
+            }
+        }
+        if (other.isCompact() && other.isRegular()) {
+            return divideRegular(other.num, other.den);
+        }
+        BigInteger c = other.numerator();
+        BigInteger d = other.denominator();
+        if (c.signum() < 0) {
+            c = c.negate();
+            d = d.negate();
+        }
+        return multiplyBig(this.numerator(), this.denominator(), d, c);
+    }
+
+    // a/b ÷ c/d для регулярного c/d — множення на вавилонське обернене d/c. Спільні множники
+    // можуть бути лише 2, 3, 5: двійки знімаються зсувом, а для непарної частини досить
+    // однієї остачі від ділення на неї та GCD у long.
+    private Base60 divideRegular(long c, long d) {
+        BigInteger a = this.numerator();
+        BigInteger b = this.denominator();
+        long g1 = regularGcd(a, Math.abs(c));
+        long g2 = regularGcd(b, d);
+        BigInteger newNum = divideExact(a, g1).multiply(BigInteger.valueOf(c < 0 ? -d / g2 : d / g2));
+        BigInteger newDen = divideExact(b, g2).multiply(BigInteger.valueOf(Math.abs(c) / g1));
         return new Base60(newNum, newDen);
     }
 
+    // gcd(x, regular) для x ≠ 0 і регулярного regular > 0
+    private static long regularGcd(BigInteger x, long regular) {
+        int regularTwos = Long.numberOfTrailingZeros(regular);
+        int twos = Math.min(x.getLowestSetBit(), regularTwos);
+        long odd = regular >> regularTwos;
+        long oddGcd = odd == 1 ? 1 : gcd(x.mod(BigInteger.valueOf(odd)).longValue(), odd);
+        return oddGcd << twos;
+    }
+
+    private static BigInteger divideExact(BigInteger x, long divisor) {
+        if (divisor == 1) {
+            return x;
+        }
+        int twos = Long.numberOfTrailingZeros(divisor);
+        long odd = divisor >> twos;
+        x = x.shiftRight(twos);
+        return odd == 1 ? x : x.divide(BigInteger.valueOf(odd));
+    }
+
+    // Регулярне число: ±2^a · 3^b · 5^c з цілими (можливо від'ємними) показниками —
+    // і саме число, і обернене до нього мають скінченний запис у base-60
+    public boolean isRegular() {
+        if (isCompact()) {
+            return num != 0 && isRegular(Math.abs(num)) && isRegular(den);
+        }
+        return isRegular(bigNum.abs()) && isRegular(bigDen);
+    }
+
+    private static boolean isRegular(long n) {
+        n >>= Long.numberOfTrailingZeros(n);
+        while (n % 3 == 0) {
+            n /= 3;
+        }
+        while (n % 5 == 0) {
+            n /= 5;
+        }
+        return n == 1;
+    }
+
+    // Знімаємо двійки зсувом, трійки й п'ятірки — блоками 3^39 і 5^27, поки число не вміститься в long
+    private static boolean isRegular(BigInteger n) {
+        n = n.shiftRight(n.getLowestSetBit());
+        n = removeFactor(n, POW3_LONG, THREE);
+        n = removeFactor(n, POW5_LONG, FIVE);
+        return n.bitLength() < Long.SIZE && isRegular(n.longValue());
+    }
+
+    private static BigInteger removeFactor(BigInteger n, BigInteger block, BigInteger prime) {
+        while (n.bitLength() >= Long.SIZE) {
+            BigInteger[] divRem = n.divideAndRemainder(block);
+            if (divRem[1].signum() != 0) {
+                // Залишок від блоку: якщо він не ділиться на prime, то й n не ділиться
+                if (divRem[1].mod(prime).signum() != 0) {
+                    return n;
+                }
+                BigInteger[] step = n.divideAndRemainder(prime);
+                if (step[1].signum() != 0) {
+                    return n;
+                }
+                n = step[0];
+                continue;
+            }
+            n = divRem[0];
+        }
+        return n;
+    }
+
+    // Чисельники ненульові, знаменники додатні
+    private static Base60 multiplyBig(BigInteger a, BigInteger b, BigInteger c, BigInteger d) {
+        BigInteger g1 = a.gcd(d);
+        BigInteger g2 = c.gcd(b);
+        return new Base60(a.divide(g1).multiply(c.divide(g2)), b.divide(g2).multiply(d.divide(g1)));
+    }
+
+    // Нескоротна long-пара з den > 0; Long.MIN_VALUE у чисельнику не вміщується в компактний режим
+    private static Base60 reducedLong(long num, long den) {
+        if (num == Long.MIN_VALUE) {
+            return new Base60(BigInteger.valueOf(num), BigInteger.valueOf(den));
+        }
+        return compact(num, den);
+    }
+
+    // 1/n для n > 0; для регулярних n ≤ 3600 — спільний екземпляр із кешу
+    static Base60 unitFraction(long n) {
+        if (n <= CACHE_HIGH) {
+            Base60 reciprocal = RegularReciprocals.TABLE[(int) n];
+            if (reciprocal != null) {
+                return reciprocal;
+            }
+        }
+        return new Base60(1L, n);
+    }
+
+    // Нескоротна пара в межах компактного інваріанту: кешований екземпляр, якщо такий є
+    private static Base60 compact(long num, long den) {
+        if (den == 1) {
+            if (num >= CACHE_LOW && num <= CACHE_HIGH) {
+                return SMALL_INTEGERS[(int) num - CACHE_LOW];
+            }
+        } else if (num == 1 && den <= CACHE_HIGH) {
+            Base60 reciprocal = RegularReciprocals.TABLE[(int) den];
+            if (reciprocal != null) {
+                return reciprocal;
+            }
+        }
+        return new Base60(num, den);
+    }
+
+    // --- Суми й добутки колекцій ---
+    // Згортка збалансованим деревом (великі колекції — на fork-join пулі), див. BalancedReduction
+    public static Base60 sum(Collection<? extends Base60> values) {
+        return BalancedReduction.reduce(values.toArray(new Base60[0]), ZERO, Base60::add);
+    }
+
+    public static Base60 product(Collection<? extends Base60> values) {
+        return BalancedReduction.reduce(values.toArray(new Base60[0]), ONE, Base60::multiply);
+    }
+
+    public static Collector<Base60, ?, Base60> summing() {
+        return BalancedReduction.collector(ZERO, Base60::add);
+    }
+
+    public static Collector<Base60, ?, Base60> multiplying() {
+        return BalancedReduction.collector(ONE, Base60::multiply);
+    }
+
     // --- Знак ---
     public Base60 negate() {
-        return new Base60(numerator.negate(), denominator);
+        if (isCompact()) {
+            return new Base60(-num, den);
+        }
+        return new Base60(bigNum.negate(), bigDen);
     }
 
     public Base60 abs() {
-        return new Base60(numerator.abs(), denominator);
+        if (isCompact()) {
+            return num < 0 ? new Base60(-num, den) : this;
+        }
+        return bigNum.signum() < 0 ? new Base60(bigNum.negate(), bigDen) : this;
     }
 
     public int signum() {
-        return numerator.signum();
+        return isCompact() ? Long.signum(num) : bigNum.signum();
     }
 
     // --- Степінь ---
     public Base60 pow(int n) {
-        if (n == 0) return fromInt(1);
+        if (n == 0) return ONE;
+        BigInteger numerator = numerator();
+        BigInteger denominator = denominator();
+        // Степінь нескоротного дробу лишається нескоротним
         if (n > 0) return new Base60(numerator.pow(n), denominator.pow(n));
         if (numerator.signum() == 0) {
             throw new ArithmeticException("Zero cannot be raised to a negative power");
         }
         int absN = -n;
+        if (numerator.signum() < 0) {
+            numerator = numerator.negate();
+            denominator = denominator.negate();
+        }
         return new Base60(denominator.pow(absN), numerator.pow(absN));
     }
 
     public Base60 pow(Base60 exp) {
-        if (exp.denominator.equals(BigInteger.ONE) && exp.numerator.abs().bitLength() <= 31) {
-            return pow(exp.numerator.intValue());
+        return pow(exp, DEFAULT_ROOT_PLACES);
+    }
+
+    // x^(p/q), округлене до sexagesimalPlaces розрядів. Цілий показник і раціональний корінь дають
+    // точний результат; інакше — метод Ньютона з обмеженою точністю, тож вартість не залежить від
+    // розміру p і q (лише від їхньої довжини в бітах).
+    public Base60 pow(Base60 exp, int sexagesimalPlaces) {
+        Objects.requireNonNull(exp);
+        BigInteger p = exp.numerator();
+        BigInteger q = exp.denominator();
+        if (q.equals(BigInteger.ONE) && p.bitLength() < Integer.SIZE) {
+            return pow(p.intValue());
         }
-        double base = toDecimal().doubleValue();
-        double e = exp.toDecimal().doubleValue();
-        return fromDecimal(BigDecimal.valueOf(Math.pow(base, e)));
+        return rationalPower(p, q, sexagesimalPlaces);
     }
 
     // --- Остача (floor mod: результат має знак дільника) ---
     public Base60 mod(Base60 other) {
-        if (other.numerator.signum() == 0) {
+        if (other.signum() == 0) {
             throw new ArithmeticException("Modulo by zero");
         }
-        BigInteger p = this.numerator.multiply(other.denominator);
-        BigInteger q = this.denominator.multiply(other.numerator);
+        if (this.isCompact() && other.isCompact()) {
+            // this - other * floor(p / q) = floorMod(p, q) / (den * other.den)
+            try {
+                long p = Math.multiplyExact(this.num, other.den);
+                long q = Math.multiplyExact(this.den, other.num);
+                return ofLong(Math.floorMod(p, q), Math.multiplyExact(this.den, other.den));
+            } catch (ArithmeticException overflow) {
+                // переходимо до BigInteger
+            }
+        }
+        BigInteger p = this.numerator().multiply(other.denominator());
+        BigInteger q = this.denominator().multiply(other.numerator());
         BigInteger[] divRem = p.divideAndRemainder(q);
         BigInteger floor = divRem[0];
         // BigInteger.divide усікає до нуля; коригуємо до floor для від'ємних
@@ -417,7 +1665,7 @@ public final class Base60 extends Number implements Comparable<Base60> {
 
     // --- Квадратний корінь ---
     public Base60 sqrt() {
-        if (numerator.signum() < 0) {
+        if (signum() < 0) {
             throw new ArithmeticException("Square root of negative number");
         }
         return fromDecimal(toDecimal().sqrt(MC));
@@ -425,49 +1673,287 @@ public final class Base60 extends Number implements Comparable<Base60> {
 
     // Вавілонський (шумерський) метод Герона: x_{n+1} = (x_n + S/x_n) / 2
     public Base60 sqrtSumerians() {
-        if (numerator.signum() < 0) {
+        return sqrtSumerians(DEFAULT_ROOT_PLACES);
+    }
+
+    // Кожен крок округлюється до sexagesimalPlaces розрядів, тож операнди не ростуть.
+    // Після першого кроку x ≥ √S (нерівність середніх), і послідовність спадає, доки
+    // округлення її не зупинить — як у цілочисельному методі Ньютона. Точні квадрати — точно.
+    public Base60 sqrtSumerians(int sexagesimalPlaces) {
+        if (sexagesimalPlaces < 0) {
+            throw new IllegalArgumentException("Places must be non-negative: " + sexagesimalPlaces);
+        }
+        if (signum() < 0) {
             throw new ArithmeticException("Square root of negative number");
         }
-        if (numerator.signum() == 0) {
-            return fromInt(0);
+        if (signum() == 0) {
+            return ZERO;
         }
-        Base60 x = fromDecimal(BigDecimal.valueOf(toDecimal().doubleValue() / Math.random()));
-        Base60 two = fromInt(2);
-        for (int i = 0; i < 10; i++) {
-            x = x.add(this.divide(x)).divide(two);
+        BigInteger[] numRoot = numerator().sqrtAndRemainder();
+        BigInteger[] denRoot = denominator().sqrtAndRemainder();
+        if (numRoot[1].signum() == 0 && denRoot[1].signum() == 0) {
+            return new Base60(numRoot[0], denRoot[0]);  // корені взаємно простих — взаємно прості
+        }
+        Base60 x = heronStep(sqrtSeed(), sexagesimalPlaces);
+        while (x.signum() != 0) {
+            Base60 next = heronStep(x, sexagesimalPlaces);
+            if (next.compareTo(x) >= 0) {
+                break;
+            }
+            x = next;
         }
         return x;
     }
 
+    // Корінь n-го степеня, округлений до найближчого значення з sexagesimalPlaces розрядами.
+    // Якщо корені чисельника й знаменника цілі — результат точний.
+    public Base60 nthRoot(int n, int sexagesimalPlaces) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Root degree must be positive: " + n);
+        }
+        return rationalPower(BigInteger.ONE, BigInteger.valueOf(n), sexagesimalPlaces);
+    }
+
+    // x^(p/q) для нескоротного p/q, q ≥ 1
+    private Base60 rationalPower(BigInteger p, BigInteger q, int sexagesimalPlaces) {
+        if (sexagesimalPlaces < 0) {
+            throw new IllegalArgumentException("Places must be non-negative: " + sexagesimalPlaces);
+        }
+        if (signum() == 0) {
+            if (p.signum() < 0) {
+                throw new ArithmeticException("Zero cannot be raised to a negative power");
+            }
+            return ZERO;
+        }
+        if (signum() < 0 && !q.testBit(0)) {
+            throw new ArithmeticException("Even root of negative number");
+        }
+        // (-x)^(p/q) = (-1)^p · x^(p/q) для непарного q
+        boolean negative = signum() < 0 && p.testBit(0);
+        BigInteger num = numerator().abs();
+        BigInteger den = denominator();
+        if (p.signum() < 0) {
+            BigInteger t = num;
+            num = den;
+            den = t;
+            p = p.negate();
+        }
+        Base60 result = null;
+        BigInteger numRoot = Roots.exactRoot(num, q);
+        BigInteger denRoot = numRoot == null ? null : Roots.exactRoot(den, q);
+        if (denRoot != null) {
+            // корені взаємно простих — взаємно прості
+            if (numRoot.equals(denRoot)) {
+                result = ONE;
+            } else if (p.bitLength() < Integer.SIZE) {
+                result = new Base60(numRoot.pow(p.intValue()), denRoot.pow(p.intValue()));
+            }
+        }
+        if (result == null) {
+            result = of(Roots.powScaled(num, den, p, q, sexagesimalPlaces), pow60(sexagesimalPlaces));
+        }
+        return negative ? result.negate() : result;
+    }
+
+    // Детерміноване початкове наближення: √double, а поза діапазоном double — ⌊√(num·den)⌋ / den
+    private Base60 sqrtSeed() {
+        double value = doubleValue();
+        if (value >= Double.MIN_NORMAL && value <= Double.MAX_VALUE) {
+            return fromDouble(Math.sqrt(value));
+        }
+        BigInteger den = denominator();
+        return of(numerator().multiply(den).sqrt().add(BigInteger.ONE), den);
+    }
+
+    private Base60 heronStep(Base60 x, int places) {
+        return x.add(this.divide(x)).divide(TWO).roundToPlaces(places);
+    }
+
+    // Найближче значення з не більше ніж places дробовими розрядами (half-even)
+    private Base60 roundToPlaces(int places) {
+        BigInteger scale = pow60(places);
+        BigInteger den = denominator();
+        if (scale.mod(den).signum() == 0) {
+            return this;  // den | 60^places: значення вже скінченне в межах places
+        }
+        BigInteger[] divRem = numerator().multiply(scale).divideAndRemainder(den);
+        BigInteger rounded = divRem[0];
+        int half = divRem[1].abs().shiftLeft(1).compareTo(den);
+        if (half > 0 || (half == 0 && rounded.testBit(0))) {
+            rounded = rounded.add(BigInteger.valueOf(signum()));  // від нуля: остача має знак num
+        }
+        return of(rounded, scale);
+    }
+
+    // --- Раціональне наближення ---
+    // Найближчий дріб зі знаменником не більше max: ланцюговий дріб до останнього підхожого дробу,
+    // що вміщується, і найкращий проміжний дріб дерева Штерна–Броко. O(log den) кроків.
+    public Base60 limitDenominator(BigInteger max) {
+        Objects.requireNonNull(max);
+        if (max.signum() <= 0) {
+            throw new IllegalArgumentException("Max denominator must be positive: " + max);
+        }
+        BigInteger den = denominator();
+        if (den.compareTo(max) <= 0) {
+            return this;
+        }
+        // Підхожі дроби p0/q0, p1/q1 для |num| / den
+        BigInteger p0 = BigInteger.ZERO;
+        BigInteger q0 = BigInteger.ONE;
+        BigInteger p1 = BigInteger.ONE;
+        BigInteger q1 = BigInteger.ZERO;
+        BigInteger n = numerator().abs();
+        BigInteger d = den;
+        while (true) {
+            BigInteger[] divRem = n.divideAndRemainder(d);
+            BigInteger q2 = q0.add(divRem[0].multiply(q1));
+            if (q2.compareTo(max) > 0) {
+                break;
+            }
+            BigInteger p2 = p0.add(divRem[0].multiply(p1));
+            p0 = p1;
+            q0 = q1;
+            p1 = p2;
+            q1 = q2;
+            n = d;
+            d = divRem[1];
+        }
+        // Проміжний дріб (p0 + k·p1) / (q0 + k·q1) з найбільшим k, що вміщується
+        BigInteger k = max.subtract(q0).divide(q1);
+        Base60 semiconvergent = new Base60(p0.add(k.multiply(p1)), q0.add(k.multiply(q1)));
+        Base60 convergent = new Base60(p1, q1);
+        Base60 magnitude = abs();
+        Base60 best = convergent.subtract(magnitude).abs().compareTo(semiconvergent.subtract(magnitude).abs()) <= 0
+                ? convergent : semiconvergent;
+        return signum() < 0 ? best.negate() : best;
+    }
+
+    // Найближчий дріб зі знаменником ≤ 60^places — не гірший за округлення до places розрядів
+    public Base60 approximate(int sexagesimalPlaces) {
+        if (sexagesimalPlaces < 0) {
+            throw new IllegalArgumentException("Places must be non-negative: " + sexagesimalPlaces);
+        }
+        return limitDenominator(pow60(sexagesimalPlaces));
+    }
+
     // --- java.lang.Number ---
     @Override
     public int intValue() {
-        return toInteger().intValue();
+        return isCompact() ? (int) (num / den) : toInteger().intValue();
     }
 
     @Override
     public long longValue() {
-        return toInteger().longValue();
+        return isCompact() ? num / den : toInteger().longValue();
     }
 
+    // Обидва перетворення — точне округлення half-even без BigDecimal.
+    // Якщо чисельник і знаменник точно представлені, досить одного IEEE-ділення (воно вже коректно округлене).
     @Override
     public float floatValue() {
-        return toDecimal().floatValue();
+        if (isCompact() && Math.abs(num) <= FLOAT_EXACT && den <= FLOAT_EXACT) {
+            return (float) num / (float) den;
+        }
+        return (float) roundedValue(Float.PRECISION, Float.MIN_EXPONENT);
     }
 
     @Override
     public double doubleValue() {
-        return toDecimal().doubleValue();
+        if (isCompact() && Math.abs(num) <= DOUBLE_EXACT && den <= DOUBLE_EXACT) {
+            return (double) num / (double) den;
+        }
+        return roundedValue(Double.PRECISION, Double.MIN_EXPONENT);
+    }
+
+    // Значення, округлене до precision біт (менше — у субнормальному діапазоні); результат
+    // точно представлений у double, тож подальше (float) не округлює вдруге.
+    private double roundedValue(int precision, int minExponent) {
+        if (signum() == 0) {
+            return 0.0;
+        }
+        BigInteger p = numerator().abs();
+        BigInteger q = denominator();
+        // Частка p · 2^shift / q має precision + 3 або precision + 4 біти — вміщується в long
+        int shift = precision + 3 - (p.bitLength() - q.bitLength());
+        BigInteger[] divRem = shift >= 0
+                ? p.shiftLeft(shift).divideAndRemainder(q)
+                : p.divideAndRemainder(q.shiftLeft(-shift));
+        long quotient = divRem[0].longValue();
+        boolean inexact = divRem[1].signum() != 0;
+        int bits = 64 - Long.numberOfLeadingZeros(quotient);
+        int exponent = bits - 1 - shift;  // ⌊log2 |value|⌋
+        if (exponent < minExponent - precision) {
+            return signum() < 0 ? -0.0 : 0.0;  // менше половини найменшого субнормального
+        }
+        int keep = exponent >= minExponent ? precision : precision - (minExponent - exponent);
+        int drop = bits - keep;
+        long mantissa = quotient >>> drop;
+        long rest = quotient & ((1L << drop) - 1);
+        long half = 1L << (drop - 1);
+        if (rest > half || (rest == half && (inexact || (mantissa & 1) != 0))) {
+            mantissa++;
+        }
+        double magnitude = Math.scalb((double) mantissa, drop - shift);
+        return signum() < 0 ? -magnitude : magnitude;
     }
 
     // --- Comparable ---
+    // Дешеві перевірки йдуть першими: знак, спільний знаменник, порядок величини за довжиною в бітах,
+    // коректно округлений double. Перехресне множення лишається тільки для дуже близьких значень.
     @Override
     public int compareTo(Base60 other) {
-        BigInteger left = this.numerator.multiply(other.denominator);
-        BigInteger right = other.numerator.multiply(this.denominator);
+        if (this.isCompact() && other.isCompact()) {
+            if (this.den == other.den) {
+                return Long.compare(this.num, other.num);
+            }
+            return compareProducts(this.num, other.den, other.num, this.den);
+        }
+        int sign = this.signum();
+        if (sign != other.signum()) {
+            return Integer.compare(sign, other.signum());
+        }
+        if (sign == 0) {
+            return 0;
+        }
+        if (this.denominator().equals(other.denominator())) {
+            return this.numerator().compareTo(other.numerator());
+        }
+        // |x| ∈ (2^(e-1), 2^(e+1)), де e = bitLength(num) - bitLength(den)
+        long leftScale = this.scaleBits();
+        long rightScale = other.scaleBits();
+        if (Math.abs(leftScale - rightScale) >= 2) {
+            return Long.compare(leftScale, rightScale) * sign;
+        }
+        // Округлення монотонне: різні округлені значення впорядковані так само, як точні
+        if (Math.abs(leftScale) < Double.MAX_EXPONENT) {
+            double left = this.doubleValue();
+            double right = other.doubleValue();
+            if (left != right) {
+                return Double.compare(left, right);
+            }
+        }
+        BigInteger left = this.numerator().multiply(other.denominator());
+        BigInteger right = other.numerator().multiply(this.denominator());
         return left.compareTo(right);
     }
 
+    private long scaleBits() {
+        if (isCompact()) {
+            return Long.numberOfLeadingZeros(den) - Long.numberOfLeadingZeros(Math.abs(num));
+        }
+        return (long) bigNum.bitLength() - bigDen.bitLength();
+    }
+
+    // Точне порівняння a*b з c*d як 128-бітних добутків (старше слово зі знаком, молодше без)
+    static int compareProducts(long a, long b, long c, long d) {
+        long leftHigh = Math.multiplyHigh(a, b);
+        long rightHigh = Math.multiplyHigh(c, d);
+        if (leftHigh != rightHigh) {
+            return Long.compare(leftHigh, rightHigh);
+        }
+        return Long.compareUnsigned(a * b, c * d);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -476,12 +1962,30 @@ public final class Base60 extends Number implements Comparable<Base60> {
         if (!(o instanceof Base60)) {
             return false;
         }
+        // Представлення канонічне: рівні значення мають однакові поля
         Base60 other = (Base60) o;
-        return this.compareTo(other) == 0;
+        if (this.isCompact() || other.isCompact()) {
+            return this.bigNum == other.bigNum && this.num == other.num && this.den == other.den;
+        }
+        return this.bigNum.equals(other.bigNum) && this.bigDen.equals(other.bigDen);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(numerator, denominator);
+        int h = hash;
+        if (h == 0) {
+            // Представлення канонічне, тож рівні значення завжди в одному режимі
+            h = isCompact()
+                    ? 31 * (31 + Long.hashCode(num)) + Long.hashCode(den)
+                    : 31 * (31 + bigNum.hashCode()) + bigDen.hashCode();
+            hash = h;
+        }
+        return h;
+    }
+
+    // --- Інтернування ---
+    // Канонічний екземпляр цього значення зі спільного пулу: рівні значення після intern() однакові за ==
+    public Base60 intern() {
+        return INTERNER.intern(this);
     }
 }
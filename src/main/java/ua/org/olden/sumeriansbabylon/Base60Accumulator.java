@@ -0,0 +1,196 @@
+package ua.org.olden.sumeriansbabylon;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * Змінний накопичувач для довгих сум і добутків Base60 — аналог StringBuilder для String.
+ * Проміжний дріб не скорочується на кожному кроці: GCD виконується лише тоді,
+ * коли знаменник виріс удвічі від розміру після останнього скорочення.
+ * Поки дріб і операнди вміщуються в long, накопичувач працює без BigInteger і скорочує одразу
+ * (перехресно, як Base60Array.sum); перше переповнення переводить його в BigInteger.
+ * Не є потокобезпечним.
+ */
+public final class Base60Accumulator {
+
+    // Нижня межа розміру знаменника (у бітах), до якої скорочення не виконується
+    private static final int MIN_REDUCE_BITS = 256;
+
+    // Компактний режим (numerator == null): нескоротний дріб compactNum / compactDen, compactDen > 0
+    private long compactNum;
+    private long compactDen = 1;
+    private BigInteger numerator;
+    private BigInteger denominator;  // завжди > 0
+    private int reduceBits = MIN_REDUCE_BITS;
+
+    public Base60Accumulator() {
+    }
+
+    public Base60Accumulator(Base60 initial) {
+        Objects.requireNonNull(initial);
+        if (initial.isCompact()) {
+            this.compactNum = initial.compactNumerator();
+            this.compactDen = initial.compactDenominator();
+        } else {
+            this.numerator = initial.numerator();
+            this.denominator = initial.denominator();
+        }
+    }
+
+    // --- Арифметика на місці ---
+    public Base60Accumulator add(Base60 value) {
+        if (numerator == null && value.isCompact()
+                && addCompact(value.compactNumerator(), value.compactDenominator())) {
+            return this;
+        }
+        spill();
+        BigInteger num = value.numerator();
+        BigInteger den = value.denominator();
+        if (den.equals(denominator)) {
+            numerator = numerator.add(num);
+        } else {
+            numerator = numerator.multiply(den).add(num.multiply(denominator));
+            denominator = denominator.multiply(den);
+        }
+        return maybeReduce();
+    }
+
+    public Base60Accumulator subtract(Base60 value) {
+        // компактний чисельник не буває Long.MIN_VALUE, тож заперечення безпечне
+        if (numerator == null && value.isCompact()
+                && addCompact(-value.compactNumerator(), value.compactDenominator())) {
+            return this;
+        }
+        spill();
+        BigInteger num = value.numerator();
+        BigInteger den = value.denominator();
+        if (den.equals(denominator)) {
+            numerator = numerator.subtract(num);
+        } else {
+            numerator = numerator.multiply(den).subtract(num.multiply(denominator));
+            denominator = denominator.multiply(den);
+        }
+        return maybeReduce();
+    }
+
+    public Base60Accumulator multiply(Base60 value) {
+        if (numerator == null && value.isCompact()
+                && multiplyCompact(value.compactNumerator(), value.compactDenominator())) {
+            return this;
+        }
+        spill();
+        numerator = numerator.multiply(value.numerator());
+        denominator = denominator.multiply(value.denominator());
+        return maybeReduce();
+    }
+
+    public Base60Accumulator divide(Base60 value) {
+        if (value.signum() == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        if (numerator == null && value.isCompact()) {
+            long num = value.compactNumerator();
+            long den = value.compactDenominator();
+            if (multiplyCompact(num < 0 ? -den : den, Math.abs(num))) {
+                return this;
+            }
+        }
+        spill();
+        BigInteger num = value.numerator();
+        // знак переносимо в чисельник, щоб знаменник лишався додатним
+        if (num.signum() < 0) {
+            numerator = numerator.negate();
+            num = num.negate();
+        }
+        numerator = numerator.multiply(value.denominator());
+        denominator = denominator.multiply(num);
+        return maybeReduce();
+    }
+
+    // --- Компактний режим ---
+    // true, якщо результат вмістився в long; інакше стан не змінюється
+
+    private boolean addCompact(long num, long den) {
+        try {
+            long g = Base60.gcd(compactDen, den);
+            long t = Math.addExact(Math.multiplyExact(compactNum, den / g), Math.multiplyExact(num, compactDen / g));
+            if (t == 0) {
+                compactNum = 0;
+                compactDen = 1;
+                return true;
+            }
+            if (t == Long.MIN_VALUE) {
+                return false;
+            }
+            // t може мати спільні множники лише з g
+            long g2 = g == 1 ? 1 : Base60.gcd(Math.abs(t) % g, g);
+            compactDen = Math.multiplyExact(compactDen / g, den / g2);
+            compactNum = t / g2;
+            return true;
+        } catch (ArithmeticException overflow) {
+            return false;
+        }
+    }
+
+    private boolean multiplyCompact(long num, long den) {
+        if (compactNum == 0 || num == 0) {
+            compactNum = 0;
+            compactDen = 1;
+            return true;
+        }
+        try {
+            long g1 = Base60.gcd(Math.abs(compactNum), den);
+            long g2 = Base60.gcd(Math.abs(num), compactDen);
+            long product = Math.multiplyExact(compactNum / g1, num / g2);
+            if (product == Long.MIN_VALUE) {
+                return false;
+            }
+            compactDen = Math.multiplyExact(compactDen / g2, den / g1);
+            compactNum = product;
+            return true;
+        } catch (ArithmeticException overflow) {
+            return false;
+        }
+    }
+
+    // Перехід у BigInteger; назад накопичувач уже не повертається
+    private void spill() {
+        if (numerator == null) {
+            numerator = BigInteger.valueOf(compactNum);
+            denominator = BigInteger.valueOf(compactDen);
+        }
+    }
+
+    // --- Результат ---
+    // Після reduce() дріб уже нескоротний — GCD у фабриці Base60 не повторюється
+    public Base60 toBase60() {
+        if (numerator == null) {
+            return Base60.canonical(compactNum, compactDen);
+        }
+        reduce();
+        return Base60.canonical(numerator, denominator);
+    }
+
+    @Override
+    public String toString() {
+        return toBase60().toString();
+    }
+
+    // --- Відкладене скорочення ---
+    private Base60Accumulator maybeReduce() {
+        if (denominator.bitLength() > reduceBits) {
+            reduce();
+        }
+        return this;
+    }
+
+    private void reduce() {
+        BigInteger gcd = numerator.gcd(denominator);
+        if (!gcd.equals(BigInteger.ONE)) {
+            numerator = numerator.divide(gcd);
+            denominator = denominator.divide(gcd);
+        }
+        // наступне скорочення — коли знаменник знову виросте вдвічі
+        reduceBits = Math.max(MIN_REDUCE_BITS, 2 * denominator.bitLength());
+    }
+}
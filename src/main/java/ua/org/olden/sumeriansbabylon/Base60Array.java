@@ -0,0 +1,301 @@
+package ua.org.olden.sumeriansbabylon;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+/**
+ * Масив Base60 поза купою (java.lang.foreign): мільйони значень без об'єктів і без навантаження на GC.
+ * Кожен елемент — слот із двох long: компактне значення num / den зберігається прямо в ньому,
+ * велике — у форматі Base60Codec в окремій overflow-арені, а слот тримає його зміщення й довжину.
+ * sum, sort і compare працюють зі слотами напряму; об'єкти Base60 створюються лише для великих значень.
+ * Пам'ять звільняється в close(). Не є потокобезпечним.
+ */
+public final class Base60Array implements AutoCloseable {
+
+    // Слот: [num, den] для компактного значення (den > 0) або [зміщення, -довжина] для великого
+    private static final long SLOT_BYTES = 2 * Long.BYTES;
+    private static final long MIN_OVERFLOW_BYTES = 1 << 12;
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private final Arena arena;
+    private final MemorySegment slots;
+    private final long length;
+
+    // Overflow-арена лише росте: місце перезаписаних великих значень використовується повторно,
+    // тільки якщо нове кодування вміщується на старе місце
+    private MemorySegment overflow;
+    private long overflowUsed;
+
+    // Новий масив заповнений нулями (0/1)
+    public Base60Array(long length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must be non-negative: " + length);
+        }
+        this.length = length;
+        this.arena = Arena.ofShared();
+        this.slots = arena.allocate(Math.multiplyExact(length, SLOT_BYTES), Long.BYTES);
+        this.overflow = MemorySegment.NULL;
+        for (long i = 0; i < length; i++) {
+            setSlot(i, 0, 1);
+        }
+    }
+
+    public long length() {
+        return length;
+    }
+
+    // Байти, зайняті великими значеннями (разом із перезаписаними)
+    public long overflowBytes() {
+        return overflowUsed;
+    }
+
+    public Base60 get(long index) {
+        Objects.checkIndex(index, length);
+        long num = num(index);
+        long den = den(index);
+        return den > 0 ? Base60.canonical(num, den) : decodeOverflow(num, den);
+    }
+
+    public void set(long index, Base60 value) {
+        Objects.checkIndex(index, length);
+        Objects.requireNonNull(value);
+        if (value.isCompact()) {
+            setSlot(index, value.compactNumerator(), value.compactDenominator());
+            return;
+        }
+        long size = Base60Codec.encodedLength(value);
+        long den = den(index);
+        long offset = den <= 0 && -den >= size ? num(index) : allocateOverflow(size);
+        Base60Codec.encode(value, overflow.asSlice(offset, size).asByteBuffer());
+        setSlot(index, offset, -size);
+    }
+
+    // --- Порівняння ---
+    // Два компактні слоти порівнюються 128-бітними добутками, як у Base60.compareTo
+    public int compare(long i, long j) {
+        Objects.checkIndex(i, length);
+        Objects.checkIndex(j, length);
+        return compareSlots(i, j);
+    }
+
+    private int compareSlots(long i, long j) {
+        long leftDen = den(i);
+        long rightDen = den(j);
+        if (leftDen > 0 && rightDen > 0) {
+            if (leftDen == rightDen) {
+                return Long.compare(num(i), num(j));
+            }
+            return Base60.compareProducts(num(i), rightDen, num(j), leftDen);
+        }
+        return get(i).compareTo(get(j));
+    }
+
+    // --- Сума ---
+    // Компактні елементи додаються в long з перехресним скороченням; коли long переповнюється,
+    // часткова сума переноситься в Base60Accumulator і підсумовування в long починається знову
+    public Base60 sum() {
+        Base60Accumulator total = null;
+        long sumNum = 0;
+        long sumDen = 1;
+        for (long i = 0; i < length; i++) {
+            long num = num(i);
+            long den = den(i);
+            if (den > 0) {
+                try {
+                    long g = Base60.gcd(sumDen, den);
+                    long t = Math.addExact(Math.multiplyExact(sumNum, den / g), Math.multiplyExact(num, sumDen / g));
+                    if (t == 0) {
+                        sumNum = 0;
+                        sumDen = 1;
+                        continue;
+                    }
+                    if (t != Long.MIN_VALUE) {
+                        // g — дільник знаменників, зазвичай малий: остача зводить GCD до малих чисел
+                        long g2 = g == 1 ? 1 : Base60.gcd(Math.abs(t) % g, g);
+                        sumDen = Math.multiplyExact(sumDen / g, den / g2);
+                        sumNum = t / g2;
+                        continue;
+                    }
+                } catch (ArithmeticException overflow) {
+                    // нижче: часткова сума йде в накопичувач
+                }
+            }
+            if (total == null) {
+                total = new Base60Accumulator();
+            }
+            total.add(Base60.canonical(sumNum, sumDen));
+            if (den > 0) {
+                sumNum = num;
+                sumDen = den;
+            } else {
+                total.add(decodeOverflow(num, den));
+                sumNum = 0;
+                sumDen = 1;
+            }
+        }
+        Base60 partial = Base60.canonical(sumNum, sumDen);
+        return total == null ? partial : total.add(partial).toBase60();
+    }
+
+    // --- Сортування ---
+    // Інтросорт на місці: квіксорт із розбиттям Хоара (рівні опорному зупиняють обидва вказівники,
+    // тож багато однакових значень не псують баланс), пірамідальне сортування при надто глибокій
+    // рекурсії, вставки на коротких відрізках
+    public void sort() {
+        sort(0, length, 2 * (64 - Long.numberOfLeadingZeros(length)));
+    }
+
+    private void sort(long from, long to, int depth) {
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(from, to);
+                return;
+            }
+            long pivot = partition(from, to);
+            // Рекурсія — у меншу частину, більша обробляється в циклі: глибина стеку O(log n)
+            if (pivot - from < to - pivot) {
+                sort(from, pivot, depth);
+                from = pivot + 1;
+            } else {
+                sort(pivot + 1, to, depth);
+                to = pivot;
+            }
+        }
+        insertionSort(from, to);
+    }
+
+    // Опорний (медіана трьох) лежить у from до кінця розбиття; компактний читається в регістри один раз.
+    // Після розбиття [from, p) ≤ опорного ≤ (p, to), а сам опорний — у p.
+    private long partition(long from, long to) {
+        medianToFront(from, from + (to - from) / 2, to - 1);
+        long pivotNum = num(from);
+        long pivotDen = den(from);
+        long i = from;
+        long j = to;
+        while (true) {
+            do {
+                i++;
+            } while (i < to && compareToPivot(i, from, pivotNum, pivotDen) < 0);
+            do {
+                j--;
+            } while (compareToPivot(j, from, pivotNum, pivotDen) > 0);
+            if (i >= j) {
+                break;
+            }
+            swap(i, j);
+        }
+        swap(from, j);
+        return j;
+    }
+
+    private int compareToPivot(long i, long pivot, long pivotNum, long pivotDen) {
+        long den = den(i);
+        if (den > 0 && pivotDen > 0) {
+            if (den == pivotDen) {
+                return Long.compare(num(i), pivotNum);
+            }
+            return Base60.compareProducts(num(i), pivotDen, pivotNum, den);
+        }
+        return compareSlots(i, pivot);
+    }
+
+    // Медіана трьох — у слот a
+    private void medianToFront(long a, long b, long c) {
+        if (compareSlots(b, a) < 0) {
+            swap(a, b);
+        }
+        if (compareSlots(c, b) < 0) {
+            swap(b, c);
+            if (compareSlots(b, a) < 0) {
+                swap(a, b);
+            }
+        }
+        swap(a, b);
+    }
+
+    private void insertionSort(long from, long to) {
+        for (long i = from + 1; i < to; i++) {
+            for (long j = i; j > from && compareSlots(j, j - 1) < 0; j--) {
+                swap(j, j - 1);
+            }
+        }
+    }
+
+    private void heapSort(long from, long to) {
+        long n = to - from;
+        for (long i = n / 2 - 1; i >= 0; i--) {
+            siftDown(from, i, n);
+        }
+        for (long end = n - 1; end > 0; end--) {
+            swap(from, from + end);
+            siftDown(from, 0, end);
+        }
+    }
+
+    private void siftDown(long base, long node, long n) {
+        while (true) {
+            long child = 2 * node + 1;
+            if (child >= n) {
+                return;
+            }
+            if (child + 1 < n && compareSlots(base + child + 1, base + child) > 0) {
+                child++;
+            }
+            if (compareSlots(base + node, base + child) >= 0) {
+                return;
+            }
+            swap(base + node, base + child);
+            node = child;
+        }
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    // --- Слоти ---
+
+    private long num(long index) {
+        return slots.get(JAVA_LONG, index * SLOT_BYTES);
+    }
+
+    private long den(long index) {
+        return slots.get(JAVA_LONG, index * SLOT_BYTES + Long.BYTES);
+    }
+
+    private void setSlot(long index, long num, long den) {
+        slots.set(JAVA_LONG, index * SLOT_BYTES, num);
+        slots.set(JAVA_LONG, index * SLOT_BYTES + Long.BYTES, den);
+    }
+
+    private void swap(long i, long j) {
+        long num = num(i);
+        long den = den(i);
+        setSlot(i, num(j), den(j));
+        setSlot(j, num, den);
+    }
+
+    private Base60 decodeOverflow(long offset, long negativeSize) {
+        ByteBuffer encoded = overflow.asSlice(offset, -negativeSize).asByteBuffer();
+        return Base60Codec.decode(encoded);
+    }
+
+    // Місце для size байтів у кінці арени; при нестачі арена подвоюється (старий сегмент
+    // лишається в Arena до close)
+    private long allocateOverflow(long size) {
+        if (overflowUsed + size > overflow.byteSize()) {
+            long capacity = Math.max(Math.max(MIN_OVERFLOW_BYTES, 2 * overflow.byteSize()), overflowUsed + size);
+            MemorySegment grown = arena.allocate(capacity, 1);
+            MemorySegment.copy(overflow, 0, grown, 0, overflowUsed);
+            overflow = grown;
+        }
+        long offset = overflowUsed;
+        overflowUsed += size;
+        return offset;
+    }
+}
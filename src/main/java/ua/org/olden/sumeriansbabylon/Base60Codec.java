@@ -0,0 +1,306 @@
+package ua.org.olden.sumeriansbabylon;
+
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Компактний двійковий формат Base60 для ByteBuffer — замість тексту, який дорого розбирати.
+ * Байт-тег описує форму чисельника й знаменника, далі йдуть самі числа:
+ * <pre>
+ *   біт 0     чисельник: 0 — zig-zag varint, 1 — довжина (varint) + байти доповнювального коду
+ *   біти 1–2  знаменник: 0 — 1 (ціле), 1 — регулярний 2^a · 3^b · 5^c (три varint-показники),
+ *             2 — varint, 3 — довжина (varint) + байти
+ *   біти 3–7  нулі (зарезервовано)
+ * </pre>
+ * Закодоване значення вже нескоротне, тож decode не рахує GCD — вхід має походити з encode.
+ * Порушення структури (тег, нульовий знаменник, задовгий varint) — IllegalArgumentException,
+ * обірваний вхід — BufferUnderflowException.
+ */
+public final class Base60Codec {
+
+    private static final int NUM_BIG = 1;
+    private static final int DEN_ONE = 0;
+    private static final int DEN_REGULAR = 1 << 1;
+    private static final int DEN_VARINT = 2 << 1;
+    private static final int DEN_BIG = 3 << 1;
+    private static final int DEN_MASK = 3 << 1;
+    private static final int RESERVED_MASK = ~(NUM_BIG | DEN_MASK) & 0xFF;
+
+    private static final BigInteger THREE = BigInteger.valueOf(3);
+    private static final BigInteger FIVE = BigInteger.valueOf(5);
+    private static final double LOG2_3 = Math.log(3) / Math.log(2);
+    private static final double LOG2_5 = Math.log(5) / Math.log(2);
+    // Найбільші показники, за яких 3^b і 5^c ще вміщуються в long
+    private static final int MAX_LONG_THREES = 39;
+    private static final int MAX_LONG_FIVES = 27;
+
+    private Base60Codec() {
+    }
+
+    // Кількість байтів, яку займе value
+    public static int encodedLength(Base60 value) {
+        return write(value, null);
+    }
+
+    // Запис у буфер. Якщо місця не вистачає — BufferOverflowException, а позиція буфера
+    // повертається на початок запису (байти за нею могли змінитися).
+    public static ByteBuffer encode(Base60 value, ByteBuffer buffer) {
+        Objects.requireNonNull(buffer);
+        int start = buffer.position();
+        try {
+            write(value, buffer);
+        } catch (BufferOverflowException e) {
+            buffer.position(start);
+            throw e;
+        }
+        return buffer;
+    }
+
+    // Один прохід і для підрахунку довжини (buffer == null), і для запису
+    private static int write(Base60 value, ByteBuffer buffer) {
+        Objects.requireNonNull(value);
+        if (value.isCompact()) {
+            long num = value.compactNumerator();
+            long den = value.compactDenominator();
+            if (den == 1) {
+                return putTag(buffer, DEN_ONE) + putVarint(buffer, zigZag(num));
+            }
+            int[] exponents = regularExponents(den);
+            if (exponents != null) {
+                return putTag(buffer, DEN_REGULAR) + putVarint(buffer, zigZag(num)) + putExponents(buffer, exponents);
+            }
+            return putTag(buffer, DEN_VARINT) + putVarint(buffer, zigZag(num)) + putVarint(buffer, den);
+        }
+        BigInteger num = value.numerator();
+        BigInteger den = value.denominator();
+        boolean longNum = num.bitLength() < Long.SIZE;
+        boolean longDen = den.bitLength() < Long.SIZE;
+        int[] exponents = longDen ? regularExponents(den.longValue()) : regularExponents(den);
+        int denTag = den.equals(BigInteger.ONE) ? DEN_ONE
+                : exponents != null ? DEN_REGULAR
+                : longDen ? DEN_VARINT : DEN_BIG;
+        int length = putTag(buffer, (longNum ? 0 : NUM_BIG) | denTag);
+        length += longNum ? putVarint(buffer, zigZag(num.longValue())) : putBytes(buffer, num);
+        return length + switch (denTag) {
+            case DEN_ONE -> 0;
+            case DEN_REGULAR -> putExponents(buffer, exponents);
+            case DEN_VARINT -> putVarint(buffer, den.longValue());
+            default -> putBytes(buffer, den);
+        };
+    }
+
+    public static Base60 decode(ByteBuffer buffer) {
+        int tag = buffer.get() & 0xFF;
+        if ((tag & RESERVED_MASK) != 0) {
+            throw malformed("tag 0x" + Integer.toHexString(tag));
+        }
+        boolean bigNum = (tag & NUM_BIG) != 0;
+        long num = 0;
+        BigInteger bigNumValue = null;
+        if (bigNum) {
+            bigNumValue = getBytes(buffer);
+        } else {
+            num = unZigZag(getVarint(buffer));
+        }
+        long den = 0;
+        BigInteger bigDen = null;
+        switch (tag & DEN_MASK) {
+            case DEN_ONE -> den = 1;
+            case DEN_REGULAR -> {
+                int twos = getExponent(buffer);
+                int threes = getExponent(buffer);
+                int fives = getExponent(buffer);
+                den = regularLong(twos, threes, fives);
+                if (den == 0) {
+                    if (twos + threes * LOG2_3 + fives * LOG2_5 >= Integer.MAX_VALUE) {
+                        throw malformed("denominator 2^" + twos + " · 3^" + threes + " · 5^" + fives);
+                    }
+                    bigDen = BigInteger.ONE.shiftLeft(twos).multiply(THREE.pow(threes)).multiply(FIVE.pow(fives));
+                }
+            }
+            case DEN_VARINT -> {
+                den = getVarint(buffer);
+                if (den <= 0) {
+                    throw malformed("denominator " + Long.toUnsignedString(den));
+                }
+            }
+            default -> {
+                bigDen = getBytes(buffer);
+                if (bigDen.signum() <= 0) {
+                    throw malformed("denominator " + bigDen);
+                }
+            }
+        }
+        if (!bigNum && bigDen == null && num != Long.MIN_VALUE) {
+            return Base60.canonical(num, den);
+        }
+        return Base60.canonical(bigNum ? bigNumValue : BigInteger.valueOf(num),
+                bigDen != null ? bigDen : BigInteger.valueOf(den));
+    }
+
+    // --- varint ---
+    // Беззнаковий LEB128: по 7 біт, старший біт байта — «є продовження»
+
+    private static int putTag(ByteBuffer buffer, int tag) {
+        if (buffer != null) {
+            buffer.put((byte) tag);
+        }
+        return 1;
+    }
+
+    private static int putVarint(ByteBuffer buffer, long value) {
+        int length = 1;
+        while ((value & ~0x7FL) != 0) {
+            if (buffer != null) {
+                buffer.put((byte) (value & 0x7F | 0x80));
+            }
+            value >>>= 7;
+            length++;
+        }
+        if (buffer != null) {
+            buffer.put((byte) value);
+        }
+        return length;
+    }
+
+    private static long getVarint(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw malformed("varint longer than 10 bytes");
+    }
+
+    private static int putExponents(ByteBuffer buffer, int[] exponents) {
+        return putVarint(buffer, exponents[0]) + putVarint(buffer, exponents[1]) + putVarint(buffer, exponents[2]);
+    }
+
+    private static int getExponent(ByteBuffer buffer) {
+        long exponent = getVarint(buffer);
+        if (exponent < 0 || exponent > Integer.MAX_VALUE) {
+            throw malformed("exponent " + Long.toUnsignedString(exponent));
+        }
+        return (int) exponent;
+    }
+
+    // Zig-zag: 0, -1, 1, -2, … → 0, 1, 2, 3, … — малі за модулем від'ємні теж займають мало байтів
+    private static long zigZag(long n) {
+        return n << 1 ^ n >> 63;
+    }
+
+    private static long unZigZag(long n) {
+        return n >>> 1 ^ -(n & 1);
+    }
+
+    // --- великі числа ---
+    // Довжина (varint) і байти доповнювального коду big-endian, як у BigInteger.toByteArray
+
+    private static int putBytes(ByteBuffer buffer, BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        int length = putVarint(buffer, bytes.length) + bytes.length;
+        if (buffer != null) {
+            buffer.put(bytes);
+        }
+        return length;
+    }
+
+    // Масив купи читається на місці; з прямого буфера байти доводиться скопіювати для BigInteger
+    private static BigInteger getBytes(ByteBuffer buffer) {
+        long length = getVarint(buffer);
+        if (length <= 0) {
+            throw malformed("length " + Long.toUnsignedString(length));
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        int len = (int) length;
+        BigInteger value;
+        if (buffer.hasArray()) {
+            value = new BigInteger(buffer.array(), buffer.arrayOffset() + buffer.position(), len);
+            buffer.position(buffer.position() + len);
+        } else {
+            byte[] bytes = new byte[len];
+            buffer.get(bytes);
+            value = new BigInteger(bytes);
+        }
+        return value;
+    }
+
+    // --- регулярні знаменники ---
+
+    // 2^a · 3^b · 5^c, якщо вміщується в long; інакше 0
+    private static long regularLong(int twos, int threes, int fives) {
+        if (twos >= Long.SIZE - 1 || threes > MAX_LONG_THREES || fives > MAX_LONG_FIVES) {
+            return 0;
+        }
+        long value = 1L << twos;
+        try {
+            for (int i = 0; i < threes; i++) {
+                value = Math.multiplyExact(value, 3);
+            }
+            for (int i = 0; i < fives; i++) {
+                value = Math.multiplyExact(value, 5);
+            }
+        } catch (ArithmeticException e) {
+            return 0;
+        }
+        return value;
+    }
+
+    // Показники {a, b, c} для den = 2^a · 3^b · 5^c > 1 або null, якщо знаменник не регулярний
+    private static int[] regularExponents(long den) {
+        int twos = Long.numberOfTrailingZeros(den);
+        long rest = den >>> twos;
+        int threes = 0;
+        while (rest % 3 == 0) {
+            rest /= 3;
+            threes++;
+        }
+        int fives = 0;
+        while (rest % 5 == 0) {
+            rest /= 5;
+            fives++;
+        }
+        return rest == 1 ? new int[] {twos, threes, fives} : null;
+    }
+
+    private static int[] regularExponents(BigInteger den) {
+        int twos = den.getLowestSetBit();
+        BigInteger odd = den.shiftRight(twos);
+        int threes = exponent(odd, THREE);
+        int fives = exponent(odd, FIVE);
+        BigInteger regular = BigInteger.ONE.shiftLeft(twos).multiply(THREE.pow(threes)).multiply(FIVE.pow(fives));
+        return regular.equals(den) ? new int[] {twos, threes, fives} : null;
+    }
+
+    // Показник простого p у n > 0: степені p^(2^k) ростуть, поки ділять n, далі жадібний спуск —
+    // O(log e) ділень замість e
+    private static int exponent(BigInteger n, BigInteger p) {
+        List<BigInteger> powers = new ArrayList<>();
+        for (BigInteger power = p; n.mod(power).signum() == 0; power = power.multiply(power)) {
+            powers.add(power);
+        }
+        int exponent = 0;
+        for (int k = powers.size() - 1; k >= 0; k--) {
+            BigInteger[] divRem = n.divideAndRemainder(powers.get(k));
+            if (divRem[1].signum() == 0) {
+                n = divRem[0];
+                exponent += 1 << k;
+            }
+        }
+        return exponent;
+    }
+
+    private static IllegalArgumentException malformed(String detail) {
+        return new IllegalArgumentException("Malformed Base60 encoding: " + detail);
+    }
+}
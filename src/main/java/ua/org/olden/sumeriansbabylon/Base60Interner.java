@@ -0,0 +1,79 @@
+package ua.org.olden.sumeriansbabylon;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Пул канонічних екземплярів Base60 — аналог String.intern().
+ * Рівні значення після інтернування — один і той самий об'єкт, тож їх можна порівнювати через ==.
+ * Записи тримаються слабкими посиланнями й зникають, коли значення ніде більше не використовується.
+ * Потокобезпечний.
+ */
+public final class Base60Interner {
+
+    private final ConcurrentHashMap<WeakKey, WeakKey> table = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Base60> queue = new ReferenceQueue<>();
+
+    public Base60 intern(Base60 value) {
+        Objects.requireNonNull(value);
+        expungeCleared();
+        WeakKey key = new WeakKey(value, queue);
+        while (true) {
+            WeakKey existing = table.putIfAbsent(key, key);
+            if (existing == null) {
+                return value;
+            }
+            Base60 canonical = existing.get();
+            if (canonical != null) {
+                return canonical;
+            }
+            // Значення вже зібране, але запис ще не прибраний — прибираємо й пробуємо знову
+            table.remove(existing, existing);
+        }
+    }
+
+    // Кількість живих записів (приблизно: зібрані значення прибираються ліниво)
+    public int size() {
+        expungeCleared();
+        return table.size();
+    }
+
+    private void expungeCleared() {
+        Reference<? extends Base60> cleared;
+        while ((cleared = queue.poll()) != null) {
+            table.remove(cleared, cleared);
+        }
+    }
+
+    // Ключ зі збереженим hashCode: після збирання значення запис рівний лише самому собі
+    private static final class WeakKey extends WeakReference<Base60> {
+
+        private final int hash;
+
+        WeakKey(Base60 value, ReferenceQueue<Base60> queue) {
+            super(value, queue);
+            this.hash = value.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof WeakKey)) {
+                return false;
+            }
+            WeakKey other = (WeakKey) o;
+            Base60 value = get();
+            return hash == other.hash && value != null && value.equals(other.get());
+        }
+    }
+}
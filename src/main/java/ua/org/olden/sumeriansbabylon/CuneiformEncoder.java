@@ -0,0 +1,198 @@
+package ua.org.olden.sumeriansbabylon;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+
+/**
+ * Кодувальник Base60 у клинопис — формат toSumerianString із заданою кількістю дробових розрядів.
+ * Знаки всіх 60 розрядів і маркерів 𒑱 / 𒑲 підготовлені заздалегідь і в UTF-16, і в UTF-8,
+ * тож запис у Appendable, OutputStream чи ByteBuffer — лише копіювання готових послідовностей.
+ * Розряди беруться лінивими ітераторами, тож величезні значення не розкладаються в масив наперед;
+ * лише ByteBuffer отримує їх масивами, бо довжину запису треба знати до першого байта.
+ * Незмінний і потокобезпечний.
+ */
+public final class CuneiformEncoder {
+
+    public static final int DEFAULT_PRECISION = 10;
+
+    static final CuneiformEncoder DEFAULT = new CuneiformEncoder(DEFAULT_PRECISION);
+
+    // --- Знаки ---
+    // Нуль: 𒑱 (U+12471) — вертикальне двокрапля, пізньовавилонський знак-розділювач
+    // Роздільник цілої та дробової частин: 𒑲 (U+12472) — діагональне двокрапля
+    static final int ZERO = 0x12471;
+    static final int FRACTION_SEPARATOR = 0x12472;
+    // Десятки — повторення Winkelhaken 𒌋 (U+1230B); одиниці: 1 → 𒁹 U+12079, 2–9 → U+12400–U+12407
+    static final int TEN = 0x1230B;
+    static final int ONE = 0x12079;
+    static final int TWO = 0x12400;
+
+    private static final String[] GLYPHS = buildGlyphs();
+    private static final byte[][] GLYPHS_UTF8 = encodeUtf8(GLYPHS);
+    private static final String FRACTION = Character.toString(FRACTION_SEPARATOR);
+    private static final byte[] FRACTION_UTF8 = FRACTION.getBytes(StandardCharsets.UTF_8);
+
+    // Найдовший розряд (59) — шість чотирибайтових знаків, плюс роздільник перед ним
+    private static final int MAX_DIGIT_BYTES = 4 * 6 + 1 + 4;
+    private static final int CHUNK_BYTES = 1 << 10;
+
+    private final int precision;
+
+    public CuneiformEncoder(int precision) {
+        if (precision < 0) {
+            throw new IllegalArgumentException("Precision must be non-negative: " + precision);
+        }
+        this.precision = precision;
+    }
+
+    private static String[] buildGlyphs() {
+        String ten = Character.toString(TEN);
+        String[] digits = new String[60];
+        digits[0] = Character.toString(ZERO);
+        for (int i = 1; i < 60; i++) {
+            String ones = i % 10 == 0 ? "" : Character.toString(onesGlyph(i % 10));
+            digits[i] = ten.repeat(i / 10) + ones;
+        }
+        return digits;
+    }
+
+    // Злитий знак для 1–9 вертикальних клинів (ASH)
+    static int onesGlyph(int ones) {
+        return ones == 1 ? ONE : TWO + ones - 2;
+    }
+
+    private static byte[][] encodeUtf8(String[] glyphs) {
+        byte[][] bytes = new byte[glyphs.length][];
+        for (int i = 0; i < glyphs.length; i++) {
+            bytes[i] = glyphs[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return bytes;
+    }
+
+    // Клинописний знак розряду 0–59
+    static String glyph(int digit) {
+        return GLYPHS[digit];
+    }
+
+    public int precision() {
+        return precision;
+    }
+
+    public String encode(Base60 value) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            encode(value, sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);  // StringBuilder не кидає IOException
+        }
+        return sb.toString();
+    }
+
+    public Appendable encode(Base60 value, Appendable out) throws IOException {
+        Objects.requireNonNull(out);
+        if (value.signum() < 0) {
+            out.append('-');
+        }
+        PrimitiveIterator.OfInt digits = value.integerDigitIterator();
+        out.append(GLYPHS[digits.nextInt()]);
+        while (digits.hasNext()) {
+            out.append(' ').append(GLYPHS[digits.nextInt()]);
+        }
+        // Дробові розряди приходять уже без нулів у кінці
+        digits = value.fractionDigitIterator(precision);
+        if (digits.hasNext()) {
+            out.append(FRACTION).append(GLYPHS[digits.nextInt()]);
+            while (digits.hasNext()) {
+                out.append(' ').append(GLYPHS[digits.nextInt()]);
+            }
+        }
+        return out;
+    }
+
+    // UTF-8 у потік; байти збираються в невеликий буфер, тож BufferedOutputStream не потрібен
+    public OutputStream encode(Base60 value, OutputStream out) throws IOException {
+        Objects.requireNonNull(out);
+        byte[] chunk = new byte[CHUNK_BYTES];
+        int pos = 0;
+        if (value.signum() < 0) {
+            chunk[pos++] = '-';
+        }
+        PrimitiveIterator.OfInt digits = value.integerDigitIterator();
+        pos = put(chunk, pos, GLYPHS_UTF8[digits.nextInt()]);
+        while (digits.hasNext()) {
+            if (pos > CHUNK_BYTES - MAX_DIGIT_BYTES) {
+                out.write(chunk, 0, pos);
+                pos = 0;
+            }
+            chunk[pos++] = ' ';
+            pos = put(chunk, pos, GLYPHS_UTF8[digits.nextInt()]);
+        }
+        digits = value.fractionDigitIterator(precision);
+        if (digits.hasNext()) {
+            if (pos > CHUNK_BYTES - MAX_DIGIT_BYTES) {
+                out.write(chunk, 0, pos);
+                pos = 0;
+            }
+            pos = put(chunk, pos, FRACTION_UTF8);
+            pos = put(chunk, pos, GLYPHS_UTF8[digits.nextInt()]);
+            while (digits.hasNext()) {
+                if (pos > CHUNK_BYTES - MAX_DIGIT_BYTES) {
+                    out.write(chunk, 0, pos);
+                    pos = 0;
+                }
+                chunk[pos++] = ' ';
+                pos = put(chunk, pos, GLYPHS_UTF8[digits.nextInt()]);
+            }
+        }
+        out.write(chunk, 0, pos);
+        return out;
+    }
+
+    // UTF-8 у буфер. Довжина рахується з розрядів наперед: якщо місця не вистачає —
+    // BufferOverflowException, і буфер лишається незмінним.
+    public ByteBuffer encode(Base60 value, ByteBuffer buffer) {
+        Objects.requireNonNull(buffer);
+        byte[] intDigits = value.toBase60IntegerDigits();
+        byte[] fracDigits = value.toBase60FractionDigits(precision);
+        boolean negative = value.signum() < 0;
+        long length = (negative ? 1 : 0) + utf8Length(intDigits)
+                + (fracDigits.length > 0 ? FRACTION_UTF8.length + utf8Length(fracDigits) : 0);
+        if (buffer.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        if (negative) {
+            buffer.put((byte) '-');
+        }
+        buffer.put(GLYPHS_UTF8[intDigits[0]]);
+        for (int i = 1; i < intDigits.length; i++) {
+            buffer.put((byte) ' ').put(GLYPHS_UTF8[intDigits[i]]);
+        }
+        if (fracDigits.length > 0) {
+            buffer.put(FRACTION_UTF8).put(GLYPHS_UTF8[fracDigits[0]]);
+            for (int i = 1; i < fracDigits.length; i++) {
+                buffer.put((byte) ' ').put(GLYPHS_UTF8[fracDigits[i]]);
+            }
+        }
+        return buffer;
+    }
+
+    // Знаки розрядів і пробіли між ними
+    private static long utf8Length(byte[] digits) {
+        long length = digits.length - 1;
+        for (byte digit : digits) {
+            length += GLYPHS_UTF8[digit].length;
+        }
+        return length;
+    }
+
+    private static int put(byte[] chunk, int pos, byte[] bytes) {
+        System.arraycopy(bytes, 0, chunk, pos, bytes.length);
+        return pos + bytes.length;
+    }
+}
@@ -0,0 +1,262 @@
+package ua.org.olden.sumeriansbabylon;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Розклад на прості множники та мультиплікативний порядок.
+ * Пробне ділення до 2^16, далі — тест простоти та ρ-метод Полларда.
+ * Для чисел понад long ρ-метод обмежений RHO_STEPS кроками: якщо число має принаймні два прості
+ * множники, більші за ~2^36, розклад недосяжний і кидається ArithmeticException. Мультиплікативний
+ * порядок у такому разі шукається перебором степенів.
+ */
+final class Primes {
+
+    private static final long TRIAL_LIMIT = 1L << 16;
+    private static final int CERTAINTY = 50;
+    private static final int RHO_STEPS = 1 << 18;
+    private static final int RHO_BATCH = 32;
+    private static final int ORDER_PROBE = 1 << 12;
+
+    private Primes() {
+    }
+
+    // Прості множники n > 0 з повторенням, за зростанням
+    static long[] factor(long n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n must be positive: " + n);
+        }
+        long[] factors = new long[64];
+        int count = 0;
+        for (long p = 2; p < TRIAL_LIMIT && p * p <= n; p += (p == 2 ? 1 : 2)) {
+            while (n % p == 0) {
+                factors[count++] = p;
+                n /= p;
+            }
+        }
+        if (n > 1) {
+            count = factorLarge(n, factors, count);
+        }
+        long[] result = Arrays.copyOf(factors, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    // n не має множників, менших за TRIAL_LIMIT
+    private static int factorLarge(long n, long[] factors, int count) {
+        if (n < TRIAL_LIMIT * TRIAL_LIMIT || BigInteger.valueOf(n).isProbablePrime(CERTAINTY)) {
+            factors[count++] = n;
+            return count;
+        }
+        long d = pollardRho(n);
+        count = factorLarge(d, factors, count);
+        return factorLarge(n / d, factors, count);
+    }
+
+    private static long pollardRho(long n) {
+        BigInteger modulus = BigInteger.valueOf(n);
+        for (long c = 1; ; c++) {
+            BigInteger increment = BigInteger.valueOf(c);
+            BigInteger x = BigInteger.TWO;
+            BigInteger y = x;
+            BigInteger d = BigInteger.ONE;
+            while (d.equals(BigInteger.ONE)) {
+                x = x.multiply(x).add(increment).mod(modulus);
+                y = y.multiply(y).add(increment).mod(modulus);
+                y = y.multiply(y).add(increment).mod(modulus);
+                d = x.subtract(y).abs().gcd(modulus);
+            }
+            if (!d.equals(modulus)) {
+                return d.longValue();
+            }
+        }
+    }
+
+    // Прості множники n > 0 з повторенням, за зростанням
+    static BigInteger[] factor(BigInteger n) {
+        if (n.signum() <= 0) {
+            throw new IllegalArgumentException("n must be positive: " + n);
+        }
+        List<BigInteger> factors = new ArrayList<>();
+        int twos = n.getLowestSetBit();
+        for (int i = 0; i < twos; i++) {
+            factors.add(BigInteger.TWO);
+        }
+        factorLarge(n.shiftRight(twos), factors);
+        factors.sort(null);
+        return factors.toArray(new BigInteger[0]);
+    }
+
+    // n непарне; як тільки частина вміщується в long — далі розклад long
+    private static void factorLarge(BigInteger n, List<BigInteger> factors) {
+        if (n.bitLength() <= 63) {
+            if (!n.equals(BigInteger.ONE)) {
+                for (long p : factor(n.longValue())) {
+                    factors.add(BigInteger.valueOf(p));
+                }
+            }
+            return;
+        }
+        if (n.isProbablePrime(CERTAINTY)) {
+            factors.add(n);
+            return;
+        }
+        BigInteger d = pollardRho(n);
+        factorLarge(d, factors);
+        factorLarge(n.divide(d), factors);
+    }
+
+    // Добутки |x - y| накопичуються по RHO_BATCH кроків на один gcd; якщо партія «перестрибнула»
+    // (gcd = n), вона повторюється покроково від збережених x, y
+    private static BigInteger pollardRho(BigInteger n) {
+        int steps = 0;
+        for (long c = 1; ; c++) {
+            BigInteger increment = BigInteger.valueOf(c);
+            BigInteger x = BigInteger.TWO;
+            BigInteger y = x;
+            BigInteger d = BigInteger.ONE;
+            while (d.equals(BigInteger.ONE)) {
+                if ((steps += RHO_BATCH) > RHO_STEPS) {
+                    throw new ArithmeticException("Cannot factor " + n + " within " + RHO_STEPS + " steps");
+                }
+                BigInteger savedX = x;
+                BigInteger savedY = y;
+                BigInteger product = BigInteger.ONE;
+                for (int i = 0; i < RHO_BATCH; i++) {
+                    x = x.multiply(x).add(increment).mod(n);
+                    y = y.multiply(y).add(increment).mod(n);
+                    y = y.multiply(y).add(increment).mod(n);
+                    product = product.multiply(x.subtract(y).abs()).mod(n);
+                }
+                d = product.gcd(n);
+                if (d.equals(n)) {
+                    x = savedX;
+                    y = savedY;
+                    do {
+                        x = x.multiply(x).add(increment).mod(n);
+                        y = y.multiply(y).add(increment).mod(n);
+                        y = y.multiply(y).add(increment).mod(n);
+                        d = x.subtract(y).abs().gcd(n);
+                    } while (d.equals(BigInteger.ONE));
+                }
+            }
+            if (!d.equals(n)) {
+                return d;
+            }
+        }
+    }
+
+    // Найменше k > 0 з base^k ≡ 1 (mod modulus); gcd(base, modulus) = 1, modulus > 1
+    static long multiplicativeOrder(long base, long modulus) {
+        // Функція Кармайкла λ(modulus) = lcm(λ(p^k)); для непарних p: λ(p^k) = p^(k-1) · (p - 1)
+        long[] factors = factor(modulus);
+        long lambda = 1;
+        for (int i = 0; i < factors.length; ) {
+            long p = factors[i];
+            long lambdaPk = p - 1;
+            int j = i + 1;
+            while (j < factors.length && factors[j] == p) {
+                lambdaPk *= p;
+                j++;
+            }
+            if (p == 2 && j - i >= 3) {
+                lambdaPk /= 2;
+            }
+            lambda = lambda / gcd(lambda, lambdaPk) * lambdaPk;
+            i = j;
+        }
+        // Порядок ділить λ: відкидаємо прості множники, поки base^(order/q) ≡ 1
+        BigInteger b = BigInteger.valueOf(base);
+        BigInteger m = BigInteger.valueOf(modulus);
+        long order = lambda;
+        long previous = 0;
+        for (long q : factor(lambda)) {
+            if (q == previous) {
+                continue;
+            }
+            previous = q;
+            while (order % q == 0 && b.modPow(BigInteger.valueOf(order / q), m).equals(BigInteger.ONE)) {
+                order /= q;
+            }
+        }
+        return order;
+    }
+
+    // Те саме для модуля понад long. Короткий порядок знаходить перебір степенів — це дешевше за розклад
+    // великого модуля. Якщо modulus чи λ(modulus) не розкладаються (див. RHO_STEPS), перебір триває
+    // без обмеження: його вартість — того ж порядку, що й виписування періоду.
+    // ArithmeticException, якщо порядок не вміщується в long
+    static long multiplicativeOrder(long base, BigInteger modulus) {
+        long probe = orderByIteration(base, modulus, ORDER_PROBE);
+        if (probe > 0) {
+            return probe;
+        }
+        BigInteger order;
+        try {
+            order = orderFromLambda(base, modulus);
+        } catch (ArithmeticException unfactorable) {
+            return orderByIteration(base, modulus, Long.MAX_VALUE);
+        }
+        if (order.bitLength() > 63) {
+            throw new ArithmeticException("Multiplicative order exceeds long: " + order);
+        }
+        return order.longValue();
+    }
+
+    private static BigInteger orderFromLambda(long base, BigInteger modulus) {
+        BigInteger[] factors = factor(modulus);
+        BigInteger lambda = BigInteger.ONE;
+        for (int i = 0; i < factors.length; ) {
+            BigInteger p = factors[i];
+            BigInteger lambdaPk = p.subtract(BigInteger.ONE);
+            int j = i + 1;
+            while (j < factors.length && factors[j].equals(p)) {
+                lambdaPk = lambdaPk.multiply(p);
+                j++;
+            }
+            if (p.equals(BigInteger.TWO) && j - i >= 3) {
+                lambdaPk = lambdaPk.shiftRight(1);
+            }
+            lambda = lambda.divide(lambda.gcd(lambdaPk)).multiply(lambdaPk);
+            i = j;
+        }
+        BigInteger b = BigInteger.valueOf(base);
+        BigInteger order = lambda;
+        BigInteger previous = null;
+        for (BigInteger q : factor(lambda)) {
+            if (q.equals(previous)) {
+                continue;
+            }
+            previous = q;
+            while (order.mod(q).signum() == 0 && b.modPow(order.divide(q), modulus).equals(BigInteger.ONE)) {
+                order = order.divide(q);
+            }
+        }
+        return order;
+    }
+
+    // Найменше k ≤ limit з base^k ≡ 1 (mod modulus), або 0. Послідовність base^k за модулем, взаємно
+    // простим з base, чисто періодична, тож досить дочекатися повернення до 1 — пам'ять стала
+    private static long orderByIteration(long base, BigInteger modulus, long limit) {
+        BigInteger b = BigInteger.valueOf(base);
+        BigInteger r = b.mod(modulus);
+        for (long k = 1; k <= limit; k++) {
+            if (r.equals(BigInteger.ONE)) {
+                return k;
+            }
+            r = r.multiply(b).mod(modulus);
+        }
+        return 0;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}
@@ -0,0 +1,100 @@
+package ua.org.olden.sumeriansbabylon;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+/**
+ * Вавілонська таблиця обернених: регулярні числа n = 2^a · 3^b · 5^c до заданої межі
+ * та їхні обернені 1/n, що мають скінченний запис у base-60.
+ * Вавилоняни ділили на n, множачи на табличне 1/n.
+ * Незмінна й потокобезпечна.
+ */
+public final class ReciprocalTable {
+
+    // Від цього розміру обернені (не самі числа) будуються паралельно
+    private static final int PARALLEL_THRESHOLD = 1 << 12;
+
+    private final long bound;
+    private final long[] numbers;       // регулярні числа за зростанням
+    private final Base60[] reciprocals; // reciprocals[i] = 1 / numbers[i]
+
+    public ReciprocalTable(long bound) {
+        if (bound < 1) {
+            throw new IllegalArgumentException("Bound must be positive: " + bound);
+        }
+        this.bound = bound;
+        this.numbers = regularNumbers(bound);
+        this.reciprocals = new Base60[numbers.length];
+        if (numbers.length >= PARALLEL_THRESHOLD) {
+            Arrays.parallelSetAll(reciprocals, i -> Base60.unitFraction(numbers[i]));
+        } else {
+            Arrays.setAll(reciprocals, i -> Base60.unitFraction(numbers[i]));
+        }
+    }
+
+    // Регулярні числа ≤ bound за зростанням, як числа Геммінга (алгоритм Дейкстри): три вказівники
+    // йдуть по вже знайденій частині масиву, наступне число — найменше з 2·h[i2], 3·h[i3], 5·h[i5].
+    // Лише long[], без купи й упаковки в Long.
+    static long[] regularNumbers(long bound) {
+        long[] result = new long[64];
+        result[0] = 1;
+        int count = 1;
+        int i2 = 0;
+        int i3 = 0;
+        int i5 = 0;
+        while (true) {
+            long x2 = multiple(result[i2], 2, bound);
+            long x3 = multiple(result[i3], 3, bound);
+            long x5 = multiple(result[i5], 5, bound);
+            long n = Math.min(x2, Math.min(x3, x5));
+            if (n == Long.MAX_VALUE) {
+                break;
+            }
+            if (count == result.length) {
+                result = Arrays.copyOf(result, count * 2);
+            }
+            result[count++] = n;
+            // рівні кандидати (6 = 2·3 = 3·2) просуваються разом — дублікатів немає
+            if (n == x2) {
+                i2++;
+            }
+            if (n == x3) {
+                i3++;
+            }
+            if (n == x5) {
+                i5++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    // n · p, якщо не перевищує bound; інакше Long.MAX_VALUE (саме воно не регулярне)
+    private static long multiple(long n, int p, long bound) {
+        return n <= bound / p ? n * p : Long.MAX_VALUE;
+    }
+
+    public long bound() {
+        return bound;
+    }
+
+    public int size() {
+        return numbers.length;
+    }
+
+    public LongStream numbers() {
+        return Arrays.stream(numbers);
+    }
+
+    public boolean contains(long n) {
+        return Arrays.binarySearch(numbers, n) >= 0;
+    }
+
+    // Точне 1/n для регулярного n з таблиці
+    public Base60 reciprocal(long n) {
+        int index = Arrays.binarySearch(numbers, n);
+        if (index < 0) {
+            throw new IllegalArgumentException("Not a regular number up to " + bound + ": " + n);
+        }
+        return reciprocals[index];
+    }
+}
@@ -0,0 +1,237 @@
+package ua.org.olden.sumeriansbabylon;
+
+import java.math.BigInteger;
+
+/**
+ * Корені та дробові степені: ⌊(num/den)^(p/q) · 60^places⌉ з округленням до найближчого.
+ * Метод Ньютона для r^q = x працює на наближених числах (мантиса BigInteger і двійковий порядок)
+ * з точністю places плюс запасні біти; проміжні степені рахуються повторним піднесенням до квадрата
+ * з обрізанням, тож вартість росте як log q, а не як q. Початкове наближення — з логарифмів у double.
+ * Якщо запасних бітів не вистачає, щоб вирішити округлення, їх кількість подвоюється.
+ */
+final class Roots {
+
+    private static final double LN2 = Math.log(2);
+    private static final double LOG2_60 = Math.log(60) / LN2;
+    private static final int GUARD_BITS = 32;
+    private static final int MAX_GUARD_BITS = 1 << 16;
+    private static final int MAX_NEWTON_STEPS = 200;
+
+    private Roots() {
+    }
+
+    // Наближене число mantissa · 2^exponent, mantissa > 0
+    private record Approx(BigInteger mantissa, long exponent) {
+
+        static final Approx ONE = new Approx(BigInteger.ONE, 0);
+
+        // Обрізає мантису до precision бітів
+        static Approx of(BigInteger mantissa, long exponent, int precision) {
+            int excess = mantissa.bitLength() - precision;
+            return excess > 0 ? new Approx(mantissa.shiftRight(excess), exponent + excess) : new Approx(mantissa, exponent);
+        }
+
+        // Порядок старшого біта: 2^(top-1) ≤ значення < 2^top
+        long top() {
+            return exponent + mantissa.bitLength();
+        }
+
+        Approx multiply(Approx other, int precision) {
+            return of(mantissa.multiply(other.mantissa), exponent + other.exponent, precision);
+        }
+
+        Approx divide(Approx other, int precision) {
+            // частка має щонайменше precision бітів
+            int shift = precision + other.mantissa.bitLength() - mantissa.bitLength() + 1;
+            BigInteger dividend = shift >= 0 ? mantissa.shiftLeft(shift) : mantissa.shiftRight(-shift);
+            return of(dividend.divide(other.mantissa), exponent - other.exponent - shift, precision);
+        }
+
+        Approx add(Approx other, int precision) {
+            // доданок, молодший за всю точність старшого, нічого не змінює
+            if (top() - other.top() > precision + 2) {
+                return this;
+            }
+            if (other.top() - top() > precision + 2) {
+                return other;
+            }
+            long e = Math.min(exponent, other.exponent);
+            BigInteger sum = mantissa.shiftLeft((int) (exponent - e))
+                    .add(other.mantissa.shiftLeft((int) (other.exponent - e)));
+            return of(sum, e, precision);
+        }
+
+        // k ≥ 1: повторне піднесення до квадрата з обрізанням на кожному кроці
+        Approx pow(BigInteger k, int precision) {
+            Approx result = this;
+            for (int i = k.bitLength() - 2; i >= 0; i--) {
+                result = result.multiply(result, precision);
+                if (k.testBit(i)) {
+                    result = result.multiply(this, precision);
+                }
+            }
+            return result;
+        }
+
+        // |this - other| ≤ max · 2^-bits
+        boolean closeTo(Approx other, int bits) {
+            if (Math.abs(top() - other.top()) > 1) {
+                return false;
+            }
+            long e = Math.min(exponent, other.exponent);
+            BigInteger diff = mantissa.shiftLeft((int) (exponent - e))
+                    .subtract(other.mantissa.shiftLeft((int) (other.exponent - e)));
+            return diff.signum() == 0 || e + diff.bitLength() <= Math.max(top(), other.top()) - bits;
+        }
+
+        // ⌊значення · 2^shift⌋
+        BigInteger floor(long shift) {
+            long total = exponent + shift;
+            if (total > Integer.MAX_VALUE) {
+                throw new ArithmeticException("Result out of range");
+            }
+            if (total < -mantissa.bitLength()) {
+                return BigInteger.ZERO;
+            }
+            return total >= 0 ? mantissa.shiftLeft((int) total) : mantissa.shiftRight((int) -total);
+        }
+    }
+
+    // ⌊(num/den)^(p/q) · 60^places⌉ для num, den, p, q > 0; результат ірраціональний, якщо q > 1
+    static BigInteger powScaled(BigInteger num, BigInteger den, BigInteger p, BigInteger q, int places) {
+        double log2Base = log2(num) - log2(den);
+        double log2Result = log2Base * ratio(p, q);
+        double log2Scaled = log2Result + places * LOG2_60;
+        // похибка логарифмів у double: кілька ulp від |log2Result|
+        double slack = Math.abs(log2Result) * 0x1p-40 + 1;
+        if (log2Scaled + slack < -1) {
+            return BigInteger.ZERO;  // менше за 1/2
+        }
+        if (log2Scaled - slack > Integer.MAX_VALUE) {
+            throw new ArithmeticException("Result out of range");
+        }
+        BigInteger scale = BigInteger.valueOf(60).pow(places);
+        int magnitude = (int) Math.max(0, Math.ceil(log2Scaled + slack));
+        for (int guard = GUARD_BITS; ; guard *= 2) {
+            int precision = magnitude + guard + GUARD_BITS;
+            Approx value = approximate(num, den, p, q, precision);
+            BigInteger fixed = value.multiply(new Approx(scale, 0), Integer.MAX_VALUE).floor(guard);
+            BigInteger half = BigInteger.ONE.shiftLeft(guard - 1);
+            BigInteger low = fixed.subtract(fixed.shiftRight(guard).shiftLeft(guard));
+            // похибка fixed значно менша за 2^(guard-16): далеко від половини округлення однозначне
+            if (low.subtract(half).abs().bitLength() > guard - 16 || guard >= MAX_GUARD_BITS) {
+                return fixed.add(half).shiftRight(guard);
+            }
+        }
+    }
+
+    // (num/den)^(p/q) з відносною похибкою близько 2^-precision
+    private static Approx approximate(BigInteger num, BigInteger den, BigInteger p, BigInteger q, int precision) {
+        // Працюємо з x ≥ 1, а для x < 1 обертаємо результат
+        boolean invert = num.compareTo(den) < 0;
+        BigInteger top = invert ? den : num;
+        BigInteger bottom = invert ? num : den;
+        int work = precision + 3 * (p.bitLength() + q.bitLength()) + 64;
+        Approx x = Approx.of(top, 0, work).divide(Approx.of(bottom, 0, work), work);
+        Approx root = q.equals(BigInteger.ONE) ? x : newtonRoot(x, log2(top) - log2(bottom), q, work,
+                precision + p.bitLength() + 16);
+        Approx result = p.equals(BigInteger.ONE) ? root : root.pow(p, work);
+        return invert ? Approx.ONE.divide(result, work) : result;
+    }
+
+    // q-й корінь з x ≥ 1: r ← r · ((q - 1) + x / r^q) / q, поки крок не стане меншим за 2^-bits
+    private static Approx newtonRoot(Approx x, double log2X, BigInteger q, int work, int bits) {
+        Approx degree = Approx.of(q, 0, work);
+        Approx degreeMinusOne = Approx.of(q.subtract(BigInteger.ONE), 0, work);
+        Approx r = rootSeed(log2X, q, work);
+        for (int i = 0; i < MAX_NEWTON_STEPS; i++) {
+            Approx ratio = x.divide(r.pow(q, work), work);
+            Approx next = r.multiply(degreeMinusOne.add(ratio, work), work).divide(degree, work);
+            boolean converged = next.closeTo(r, bits);
+            r = next;
+            if (converged) {
+                break;
+            }
+        }
+        return r;
+    }
+
+    // 2^(log2X / q) з відносною похибкою близько 2^-50 · log2X / q — досить, щоб Ньютон збігався квадратично
+    private static Approx rootSeed(double log2X, BigInteger q, int work) {
+        if (q.bitLength() > 62) {
+            // 1 + ln x / q: для величезних q показник у double зник би
+            Approx lnX = fromDouble(log2X * LN2);
+            return lnX == null ? Approx.ONE : Approx.ONE.add(lnX.divide(Approx.of(q, 0, work), work), work);
+        }
+        double l = log2X / q.doubleValue();
+        long whole = (long) Math.floor(l);
+        double fraction = Math.expm1((l - whole) * LN2);  // 2^(l - whole) - 1 точно навіть для малих значень
+        Approx t = fromDouble(fraction);
+        Approx seed = t == null ? Approx.ONE : Approx.ONE.add(t, work);
+        return new Approx(seed.mantissa(), seed.exponent() + whole);
+    }
+
+    // Точне подання додатного double; null для нуля
+    private static Approx fromDouble(double v) {
+        if (v <= 0) {
+            return null;
+        }
+        int exponent = Math.getExponent(v);
+        return new Approx(BigInteger.valueOf((long) Math.scalb(v, 52 - exponent)), exponent - 52L);
+    }
+
+    // p / q у double без переповнення для довгих чисел
+    private static double ratio(BigInteger p, BigInteger q) {
+        int shift = Math.max(0, Math.max(p.bitLength(), q.bitLength()) - 1000);
+        return p.shiftRight(shift).doubleValue() / q.shiftRight(shift).doubleValue();
+    }
+
+    // log2(n) для n > 0
+    private static double log2(BigInteger n) {
+        int shift = Math.max(0, n.bitLength() - 63);
+        return shift + Math.log(n.shiftRight(shift).doubleValue()) / LN2;
+    }
+
+    // ⁿ√a, якщо a > 0 — точний n-й степінь, інакше null
+    static BigInteger exactRoot(BigInteger a, BigInteger n) {
+        if (a.equals(BigInteger.ONE) || n.equals(BigInteger.ONE)) {
+            return a;
+        }
+        if (BigInteger.valueOf(a.bitLength()).compareTo(n) <= 0) {
+            return null;  // 2 ≤ a < 2^n: корінь між 1 і 2
+        }
+        int degree = n.intValueExact();
+        BigInteger root = integerRoot(a, degree);
+        return root.pow(degree).equals(a) ? root : null;
+    }
+
+    // ⌊ⁿ√a⌋ для a ≥ 0: метод Ньютона від наближення з double. Після першого кроку x ≥ ⌊ⁿ√a⌋
+    // (нерівність середніх), і послідовність спадає, доки не зупиниться на корені
+    static BigInteger integerRoot(BigInteger a, int n) {
+        if (n == 2) {
+            return a.sqrt();
+        }
+        if (a.signum() == 0) {
+            return a;
+        }
+        if (a.bitLength() <= n) {
+            return BigInteger.ONE;
+        }
+        double l = log2(a) / n;
+        long whole = (long) Math.floor(l);
+        BigInteger x = BigInteger.valueOf((long) Math.scalb(Math.pow(2, l - whole), 52))
+                .shiftLeft((int) whole).shiftRight(52).max(BigInteger.ONE);
+        x = newtonStep(a, x, n);
+        while (true) {
+            BigInteger y = newtonStep(a, x, n);
+            if (y.compareTo(x) >= 0) {
+                return x;
+            }
+            x = y;
+        }
+    }
+
+    private static BigInteger newtonStep(BigInteger a, BigInteger x, int n) {
+        return x.multiply(BigInteger.valueOf(n - 1)).add(a.divide(x.pow(n - 1))).divide(BigInteger.valueOf(n));
+    }
+}
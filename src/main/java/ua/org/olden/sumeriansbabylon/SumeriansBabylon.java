@@ -62,10 +62,12 @@ public class SumeriansBabylon {
         Base60 three = Base60.fromInt(3);
         System.out.printf("  3^Base60(3) = %s%n", three.pow(Base60.fromInt(3)));
 
-        // pow(Base60) — дробовий показник (4^(1/2) = 2)
+        // pow(Base60) — дробовий показник (4^(1/2) = 2 точно)
         Base60 four = Base60.fromInt(4);
         Base60 half = Base60.fromFraction(1, 2);
-        System.out.printf("  4^(1/2)    = %s  (через double)%n", four.pow(half));
+        System.out.printf("  4^(1/2)    = %s%n", four.pow(half));
+        System.out.printf("  2^(3/2)    = %s  (10 розрядів)%n", two.pow(Base60.fromFraction(3, 2), 10));
+        System.out.printf("  ∛(27/8)    = %s%n", Base60.fromFraction(27, 8).nthRoot(3, 10));
 
         // куніформ 60^2
         Base60 sixty = Base60.fromInt(60);
@@ -116,6 +118,7 @@ public class SumeriansBabylon {
         // Вавілоняни записали 1;24,51,10 ≈ √2
         Base60 ybc = Base60.parse("1.24:51:10");
         System.out.printf("  YBC 7289 (1;24,51,10) = %s%n", ybc.toDecimal());
+        System.out.printf("  Герон до 3 розрядів   = %s%n", two.sqrtSumerians(3));
         System.out.printf("  Наш sqrt(2)           = %s%n", sqrtClassic.toDecimal());
     }
 
@@ -133,5 +136,9 @@ public class SumeriansBabylon {
         System.out.printf("  1 + 1/2 + 1/3 (через doubleValue) ≈ %.6f%n", sum);
         System.out.printf("  1 + 1/2 + 1/3 (точно)             = %s%n",
                 Base60.fromInt(1).add(Base60.fromFraction(1, 2)).add(Base60.fromFraction(1, 3)));
+
+        // Зворотний напрям: точні біти double та округлення до n розрядів base-60
+        System.out.printf("  fromDouble(0.1)    = %s%n", Base60.fromDouble(0.1).toString(12));
+        System.out.printf("  fromDouble(0.1, 2) = %s%n", Base60.fromDouble(0.1, 2));
     }
 }
@@ -0,0 +1,130 @@
+package ua.org.olden.sumeriansbabylon;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Base60Accumulator — змінний накопичувач")
+class Base60AccumulatorTest {
+
+    @Test
+    @DisplayName("порожній накопичувач дає нуль")
+    void emptyIsZero() {
+        assertEquals(Base60.fromInt(0), new Base60Accumulator().toBase60());
+    }
+
+    @Test
+    @DisplayName("сума збігається з послідовним add")
+    void sumMatchesAdd() {
+        Base60Accumulator acc = new Base60Accumulator();
+        Base60 expected = Base60.fromInt(0);
+        for (int n = 1; n <= 200; n++) {
+            Base60 v = Base60.fromFraction(n % 2 == 0 ? n : -n, n + 1);
+            acc.add(v);
+            expected = expected.add(v);
+        }
+        assertEquals(expected, acc.toBase60());
+    }
+
+    @Test
+    @DisplayName("гармонічний ряд H(20) точний")
+    void harmonic() {
+        Base60Accumulator acc = new Base60Accumulator();
+        for (int n = 1; n <= 20; n++) {
+            acc.add(Base60.fromFraction(1, n));
+        }
+        Base60 expected = Base60.fromFraction(
+                new BigInteger("55835135"), new BigInteger("15519504"));
+        assertEquals(expected, acc.toBase60());
+    }
+
+    @Test
+    @DisplayName("add / subtract / multiply / divide ланцюжком")
+    void chaining() {
+        Base60 result = new Base60Accumulator(Base60.parse("1:30"))
+                .add(Base60.parse("2:15"))
+                .subtract(Base60.fromInt(45))
+                .multiply(Base60.fromFraction(1, 3))
+                .divide(Base60.fromFraction(-1, 2))
+                .toBase60();
+        // (90 + 135 - 45) / 3 / (-1/2) = -120
+        assertEquals(Base60.fromInt(-120), result);
+    }
+
+    @Test
+    @DisplayName("накопичення можна продовжити після toBase60")
+    void continueAfterToBase60() {
+        Base60Accumulator acc = new Base60Accumulator().add(Base60.fromFraction(1, 3));
+        assertEquals(Base60.fromFraction(1, 3), acc.toBase60());
+        acc.add(Base60.fromFraction(1, 6));
+        assertEquals(Base60.fromFraction(1, 2), acc.toBase60());
+    }
+
+    @Test
+    @DisplayName("добуток багатьох дробів скорочується")
+    void productReduces() {
+        Base60Accumulator acc = new Base60Accumulator(Base60.fromInt(1));
+        for (int n = 1; n <= 500; n++) {
+            acc.multiply(Base60.fromFraction(n + 1, n));
+        }
+        assertEquals(Base60.fromInt(501), acc.toBase60());
+    }
+
+    @Test
+    @DisplayName("ділення на нуль кидає ArithmeticException")
+    void divideByZero() {
+        assertThrows(ArithmeticException.class,
+                () -> new Base60Accumulator().divide(Base60.fromInt(0)));
+    }
+
+    @Test
+    @DisplayName("переповнення long посеред ланцюжка дає той самий результат, що й Base60")
+    void compactOverflow() {
+        Random random = new Random(3);
+        Base60[] operands = {
+                Base60.fromLong(Long.MAX_VALUE),
+                Base60.fromLong(-Long.MAX_VALUE),
+                Base60.fromFraction(1, Long.MAX_VALUE),
+                Base60.fromFraction(Long.MAX_VALUE - 1, Long.MAX_VALUE),
+                Base60.fromLong(1L << 62),
+                Base60.fromInt(-2),
+        };
+        for (int round = 0; round < 200; round++) {
+            Base60Accumulator acc = new Base60Accumulator(Base60.fromFraction(random.nextInt(100) - 50, 1 + random.nextInt(60)));
+            Base60 expected = acc.toBase60();
+            for (int step = 0; step < 8; step++) {
+                Base60 x = random.nextBoolean()
+                        ? operands[random.nextInt(operands.length)]
+                        : Base60.fromFraction(random.nextLong() >> random.nextInt(64), 1 + (random.nextLong() >>> (1 + random.nextInt(63))));
+                switch (random.nextInt(4)) {
+                    case 0 -> {
+                        acc.add(x);
+                        expected = expected.add(x);
+                    }
+                    case 1 -> {
+                        acc.subtract(x);
+                        expected = expected.subtract(x);
+                    }
+                    case 2 -> {
+                        acc.multiply(x);
+                        expected = expected.multiply(x);
+                    }
+                    default -> {
+                        if (x.signum() != 0) {
+                            acc.divide(x);
+                            expected = expected.divide(x);
+                        }
+                    }
+                }
+                assertEquals(expected, acc.toBase60());
+            }
+        }
+        // -2^62 · 2 = Long.MIN_VALUE — не компактне значення
+        Base60 min = new Base60Accumulator(Base60.fromLong(-(1L << 62))).multiply(Base60.fromInt(2)).toBase60();
+        assertEquals(Base60.fromLong(Long.MIN_VALUE), min);
+    }
+}
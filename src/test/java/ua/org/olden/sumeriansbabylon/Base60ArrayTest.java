@@ -0,0 +1,127 @@
+package ua.org.olden.sumeriansbabylon;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Base60Array — масив поза купою")
+class Base60ArrayTest {
+
+    // Суміш малих дробів, long-меж і великих значень, що йдуть в overflow-арену
+    private static Base60 randomValue(Random random) {
+        return switch (random.nextInt(4)) {
+            case 0 -> Base60.fromFraction(random.nextInt(2000) - 1000, 1 + random.nextInt(3600));
+            case 1 -> Base60.fromFraction(random.nextLong(), 1 + (random.nextLong() >>> 1));
+            case 2 -> Base60.fromFraction(new BigInteger(100 + random.nextInt(200), random).negate(),
+                    new BigInteger(1 + random.nextInt(100), random).add(BigInteger.ONE));
+            default -> Base60.fromInt(random.nextInt(7) - 3);
+        };
+    }
+
+    private static Base60[] fill(Base60Array array, Random random) {
+        Base60[] values = new Base60[(int) array.length()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = randomValue(random);
+            array.set(i, values[i]);
+        }
+        return values;
+    }
+
+    @Test
+    @DisplayName("get повертає те, що записав set; новий масив — нулі")
+    void getSet() {
+        try (Base60Array array = new Base60Array(1000)) {
+            assertEquals(Base60.fromInt(0), array.get(999));
+            Base60[] values = fill(array, new Random(25));
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(values[i], array.get(i));
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> array.get(1000));
+            assertThrows(IndexOutOfBoundsException.class, () -> array.set(-1, Base60.fromInt(1)));
+        }
+    }
+
+    @Test
+    @DisplayName("перезапис великого значення меншим не росте overflow-арену")
+    void overflowReuse() {
+        try (Base60Array array = new Base60Array(2)) {
+            Base60 big = Base60.fromInteger(BigInteger.TEN.pow(100));
+            array.set(0, big);
+            long used = array.overflowBytes();
+            array.set(0, Base60.fromInteger(BigInteger.TEN.pow(90)));
+            assertEquals(used, array.overflowBytes());
+            assertEquals(Base60.fromInteger(BigInteger.TEN.pow(90)), array.get(0));
+            array.set(0, Base60.fromLong(Long.MIN_VALUE));
+            assertEquals(Base60.fromLong(Long.MIN_VALUE), array.get(0));
+            array.set(0, Base60.fromInt(1));
+            assertEquals(Base60.fromInt(1), array.get(0));
+        }
+    }
+
+    @Test
+    @DisplayName("sum збігається з Base60.sum, зокрема при переповненні long")
+    void sum() {
+        Random random = new Random(26);
+        try (Base60Array array = new Base60Array(3000)) {
+            Base60[] values = fill(array, random);
+            assertEquals(Base60.sum(Arrays.asList(values)), array.sum());
+        }
+        try (Base60Array array = new Base60Array(500)) {
+            Base60[] values = new Base60[500];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = Base60.fromFraction(1, i + 1);
+                array.set(i, values[i]);
+            }
+            assertEquals(Base60.sum(Arrays.asList(values)), array.sum());
+        }
+        try (Base60Array array = new Base60Array(3)) {
+            array.set(0, Base60.fromFraction(1, 3));
+            array.set(1, Base60.fromFraction(-1, 3));
+            assertEquals(Base60.fromInt(0), array.sum());
+        }
+        try (Base60Array empty = new Base60Array(0)) {
+            assertEquals(Base60.fromInt(0), empty.sum());
+        }
+    }
+
+    @Test
+    @DisplayName("sort упорядковує як Arrays.sort, compare — як compareTo")
+    void sortAndCompare() {
+        Random random = new Random(27);
+        try (Base60Array array = new Base60Array(5000)) {
+            Base60[] values = fill(array, random);
+            for (int k = 0; k < 1000; k++) {
+                int i = random.nextInt(values.length);
+                int j = random.nextInt(values.length);
+                assertEquals(Integer.signum(values[i].compareTo(values[j])), Integer.signum(array.compare(i, j)));
+            }
+            array.sort();
+            Arrays.sort(values);
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(values[i], array.get(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("sort: багато рівних і вже впорядкований вхід")
+    void sortDegenerate() {
+        try (Base60Array array = new Base60Array(10_000)) {
+            for (int i = 0; i < array.length(); i++) {
+                array.set(i, Base60.fromFraction(i % 3, 7));
+            }
+            array.sort();
+            for (int i = 1; i < array.length(); i++) {
+                assertTrue(array.compare(i - 1, i) <= 0);
+            }
+            array.sort();
+            assertEquals(Base60.fromInt(0), array.get(0));
+            assertEquals(Base60.fromFraction(2, 7), array.get(array.length() - 1));
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package ua.org.olden.sumeriansbabylon;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Base60Codec — двійковий формат")
+class Base60CodecTest {
+
+    private static final Base60[] VALUES = {
+            Base60.fromInt(0),
+            Base60.fromInt(-1),
+            Base60.fromInt(3600),
+            Base60.fromLong(Long.MAX_VALUE),
+            Base60.fromLong(Long.MIN_VALUE),
+            Base60.fromFraction(1, 7),
+            Base60.fromFraction(-7, 3600),
+            Base60.fromFraction(1, Long.MAX_VALUE),
+            Base60.fromFraction(BigInteger.ONE, BigInteger.TWO.pow(63)),
+            Base60.fromFraction(BigInteger.valueOf(7), BigInteger.valueOf(60).pow(500)),
+            Base60.fromFraction(BigInteger.TWO.pow(300).add(BigInteger.ONE).negate(), BigInteger.valueOf(3).pow(200)),
+            Base60.fromFraction(BigInteger.TWO.pow(300).add(BigInteger.ONE), BigInteger.valueOf(7).pow(100)),
+            Base60.fromInteger(BigInteger.TEN.pow(1000)),
+    };
+
+    private static Base60 roundTrip(Base60 value, ByteBuffer buffer) {
+        buffer.clear();
+        Base60Codec.encode(value, buffer);
+        assertEquals(Base60Codec.encodedLength(value), buffer.position(), value.toString());
+        buffer.flip();
+        Base60 decoded = Base60Codec.decode(buffer);
+        assertFalse(buffer.hasRemaining());
+        return decoded;
+    }
+
+    @Test
+    @DisplayName("encode → decode повертає те саме значення з heap- і direct-буфера")
+    void roundTrip() {
+        for (ByteBuffer buffer : new ByteBuffer[] {ByteBuffer.allocate(4096), ByteBuffer.allocateDirect(4096)}) {
+            for (Base60 x : VALUES) {
+                Base60 decoded = roundTrip(x, buffer);
+                assertEquals(x, decoded);
+                assertEquals(0, x.compareTo(decoded));
+                assertEquals(x.hashCode(), decoded.hashCode());
+            }
+            Random random = new Random(24);
+            for (int i = 0; i < 1000; i++) {
+                BigInteger num = new BigInteger(1 + random.nextInt(200), random);
+                BigInteger den = new BigInteger(1 + random.nextInt(200), random).add(BigInteger.ONE);
+                Base60 x = Base60.fromFraction(random.nextBoolean() ? num : num.negate(), den);
+                assertEquals(x, roundTrip(x, buffer));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("малі значення — кілька байтів, регулярний знаменник — лише показники")
+    void compactSizes() {
+        assertEquals(2, Base60Codec.encodedLength(Base60.fromInt(0)));
+        assertEquals(2, Base60Codec.encodedLength(Base60.fromInt(-1)));
+        assertEquals(5, Base60Codec.encodedLength(Base60.fromFraction(1, 60)));
+        assertEquals(3, Base60Codec.encodedLength(Base60.fromFraction(1, 7)));
+        // 1/60^500: три показники замість ~370 байтів знаменника
+        assertTrue(Base60Codec.encodedLength(Base60.fromFraction(BigInteger.ONE, BigInteger.valueOf(60).pow(500))) <= 10);
+        // Кешовані значення декодуються в той самий екземпляр
+        assertSame(Base60.fromInt(59), roundTrip(Base60.fromInt(59), ByteBuffer.allocate(16)));
+    }
+
+    @Test
+    @DisplayName("кілька значень підряд в одному буфері")
+    void sequence() {
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        for (Base60 x : VALUES) {
+            Base60Codec.encode(x, buffer);
+        }
+        buffer.flip();
+        for (Base60 x : VALUES) {
+            assertEquals(x, Base60Codec.decode(buffer));
+        }
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    @DisplayName("нестача місця повертає позицію; пошкоджений вхід — виняток")
+    void errors() {
+        ByteBuffer small = ByteBuffer.allocate(3);
+        small.put((byte) 1);
+        assertThrows(BufferOverflowException.class, () -> Base60Codec.encode(Base60.fromFraction(1, 7), small));
+        assertEquals(1, small.position());
+
+        assertThrows(BufferUnderflowException.class, () -> Base60Codec.decode(ByteBuffer.allocate(0)));
+        assertThrows(BufferUnderflowException.class, () -> Base60Codec.decode(ByteBuffer.wrap(new byte[] {0, (byte) 0x80})));
+        assertThrows(IllegalArgumentException.class, () -> Base60Codec.decode(ByteBuffer.wrap(new byte[] {(byte) 0x08, 0})));
+        assertThrows(IllegalArgumentException.class, () -> Base60Codec.decode(ByteBuffer.wrap(new byte[] {(byte) 0x04, 2, 0})));
+        // довжина байтів за межею буфера — обірваний вхід; нульова довжина — пошкоджений
+        assertThrows(BufferUnderflowException.class, () -> Base60Codec.decode(ByteBuffer.wrap(new byte[] {(byte) 0x01, 5, 1})));
+        assertThrows(IllegalArgumentException.class, () -> Base60Codec.decode(ByteBuffer.wrap(new byte[] {(byte) 0x01, 0})));
+    }
+
+    @Test
+    @DisplayName("величезні показники регулярного знаменника відкидаються без обчислень")
+    void hugeRegularExponents() {
+        // 2^0 · 3^(2^31 - 1) · 5^0 — понад Integer.MAX_VALUE бітів
+        byte[] huge = {(byte) 0x02, 2, 0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 0};
+        assertThrows(IllegalArgumentException.class, () -> Base60Codec.decode(ByteBuffer.wrap(huge)));
+        // 3^40 вже не вміщується в long — знаменник стає BigInteger
+        byte[] threes = {(byte) 0x02, 2, 0, 40, 0};
+        assertEquals(Base60.fromFraction(BigInteger.ONE, BigInteger.valueOf(3).pow(40)),
+                Base60Codec.decode(ByteBuffer.wrap(threes)));
+        byte[] fives = {(byte) 0x02, 2, 0, 0, 27};
+        assertEquals(Base60.fromFraction(1, 7_450_580_596_923_828_125L), Base60Codec.decode(ByteBuffer.wrap(fives)));
+    }
+}
@@ -0,0 +1,87 @@
+package ua.org.olden.sumeriansbabylon;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.math.BigInteger;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Base60Interner — пул канонічних екземплярів")
+class Base60InternerTest {
+
+    @Test
+    @DisplayName("рівні значення інтернуються в один екземпляр")
+    void sameInstance() {
+        Base60Interner interner = new Base60Interner();
+        Base60 a = interner.intern(Base60.fromFraction(1, 3));
+        Base60 b = interner.intern(Base60.fromFraction(2, 6));
+        assertSame(a, b);
+        assertNotSame(a, interner.intern(Base60.fromFraction(1, 4)));
+    }
+
+    @Test
+    @DisplayName("великі дроби з різних обчислень інтернуються в один екземпляр")
+    void bigValues() {
+        Base60Interner interner = new Base60Interner();
+        Base60 x = Base60.fromFraction(BigInteger.TWO.pow(200).add(BigInteger.ONE), BigInteger.valueOf(60).pow(30));
+        Base60 y = x.add(Base60.fromInt(7)).subtract(Base60.fromInt(7));
+        assertNotSame(x, y);
+        assertSame(interner.intern(x), interner.intern(y));
+    }
+
+    @Test
+    @DisplayName("Base60.intern() повертає спільний екземпляр")
+    void sharedPool() {
+        Base60 a = Base60.fromFraction(7, 12).intern();
+        Base60 b = Base60.parse("0.35").intern();
+        assertSame(a, b);
+    }
+
+    @Test
+    @DisplayName("паралельне інтернування дає один екземпляр на значення")
+    void concurrent() {
+        Base60Interner interner = new Base60Interner();
+        ConcurrentHashMap<Base60, Base60> seen = new ConcurrentHashMap<>();
+        IntStream.range(0, 100_000).parallel().forEach(i -> {
+            Base60 canonical = interner.intern(Base60.fromFraction(i % 97, 60));
+            Base60 previous = seen.putIfAbsent(canonical, canonical);
+            assertTrue(previous == null || previous == canonical);
+        });
+        assertEquals(97, seen.size());
+    }
+
+    @Test
+    @DisplayName("значення, на які немає посилань, звільняються")
+    void weakEntries() throws InterruptedException {
+        Base60Interner interner = new Base60Interner();
+        Base60 kept = interner.intern(Base60.fromFraction(-1, 7));
+        // Проба стежить за інтернованим значенням, на яке більше ніхто не посилається;
+        // усі слабкі посилання на об'єкт очищаються разом, тож очищена проба — і запис у пулі мертвий
+        ReferenceQueue<Base60> probeQueue = new ReferenceQueue<>();
+        WeakReference<Base60> probe = new WeakReference<>(interner.intern(Base60.fromFraction(9, 7)), probeQueue);
+        for (int attempt = 0; attempt < 10 && probeQueue.poll() == null; attempt++) {
+            System.gc();
+            probeQueue.remove(100);
+        }
+        assumeTrue(probe.refersTo(null), "GC did not clear the probe");
+
+        Base60 fresh = Base60.fromFraction(18, 14);
+        assertSame(fresh, interner.intern(fresh));
+        assertSame(kept, interner.intern(Base60.fromFraction(-2, 14)));
+    }
+
+    @Test
+    @DisplayName("hashCode кешується й збігається для рівних значень")
+    void cachedHash() {
+        Base60 x = Base60.fromFraction(BigInteger.TWO.pow(100), BigInteger.valueOf(3));
+        int h = x.hashCode();
+        assertEquals(h, x.hashCode());
+        assertEquals(h, x.multiply(Base60.fromInt(5)).divide(Base60.fromInt(5)).hashCode());
+    }
+}
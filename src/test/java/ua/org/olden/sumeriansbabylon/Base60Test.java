@@ -5,8 +5,24 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -57,6 +73,46 @@ class Base60Test {
         assertEquals("0.30", n.toString());
     }
 
+    @Test
+    @DisplayName("fromDouble точно розкладає біти IEEE")
+    void fromDouble() {
+        assertEquals(Base60.fromFraction(3, 8), Base60.fromDouble(0.375));
+        assertEquals(Base60.fromInt(-1024), Base60.fromDouble(-1024.0));
+        assertEquals(Base60.fromInt(0), Base60.fromDouble(-0.0));
+        // 0.1 у двійковому вигляді — не 1/10
+        assertEquals(Base60.fromDecimal(new BigDecimal(0.1)), Base60.fromDouble(0.1));
+        assertNotEquals(Base60.fromFraction(1, 10), Base60.fromDouble(0.1));
+    }
+
+    @Test
+    @DisplayName("fromDouble: крайні значення та зворотне doubleValue")
+    void fromDoubleExtremes() {
+        for (double d : new double[]{Double.MIN_VALUE, Double.MIN_NORMAL, Double.MAX_VALUE, -Math.PI, 1e-300, 6.02e23}) {
+            Base60 value = Base60.fromDouble(d);
+            assertEquals(Base60.fromDecimal(new BigDecimal(d)), value, Double.toString(d));
+            assertEquals(d, value.doubleValue());
+        }
+        assertEquals(Base60.fromDecimal(new BigDecimal(1.1f)), Base60.fromFloat(1.1f));
+    }
+
+    @Test
+    @DisplayName("fromDouble: NaN та нескінченність кидають IllegalArgumentException")
+    void fromDoubleNotFinite() {
+        assertThrows(IllegalArgumentException.class, () -> Base60.fromDouble(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> Base60.fromDouble(Double.NEGATIVE_INFINITY));
+    }
+
+    @Test
+    @DisplayName("fromDouble(value, places) округлює до n розрядів base-60")
+    void fromDoubleWithPlaces() {
+        assertEquals(Base60.parse("0.6"), Base60.fromDouble(0.1, 1));
+        assertEquals(Base60.parse("0.6"), Base60.fromDouble(0.1, 2));
+        assertEquals(Base60.parse("-1.24:51:10"), Base60.fromDouble(-Math.sqrt(2), 3));
+        assertEquals(Base60.fromInt(2), Base60.fromDouble(2.5, 0));
+        assertEquals(Base60.fromInt(4), Base60.fromDouble(3.5, 0));
+        assertThrows(IllegalArgumentException.class, () -> Base60.fromDouble(1.0, -1));
+    }
+
     @Test
     @DisplayName("fromFraction(BigInteger, BigInteger) скорочує дріб")
     void fromFractionBigInteger() {
@@ -128,6 +184,17 @@ class Base60Test {
         assertEquals(a, b);
     }
 
+    @Test
+    @DisplayName("parse — необов'язковий знак '+'")
+    void parsePlusSign() {
+        assertEquals(Base60.fromInt(1), Base60.parse("+1"));
+        assertEquals(Base60.parse("1:30.15"), Base60.parse("+1:30.15"));
+        assertEquals(Base60.parse("0.30"), Base60.parse("+.30"));
+        assertThrows(IllegalArgumentException.class, () -> Base60.parse("+"));
+        assertThrows(IllegalArgumentException.class, () -> Base60.parse("+-1"));
+        assertThrows(IllegalArgumentException.class, () -> Base60.parse("1:+2"));
+    }
+
     @Test
     @DisplayName("parse — цифра поза діапазоном 0-59 кидає IllegalArgumentException")
     void parseInvalidDigit() {
@@ -140,6 +207,102 @@ class Base60Test {
         assertThrows(NullPointerException.class, () -> Base60.parse(null));
     }
 
+    @Test
+    @DisplayName("parse — помилка повідомляє позицію")
+    void parseErrorPosition() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> Base60.parse("1:2x:3"));
+        assertTrue(e.getMessage().contains("position 3"), e.getMessage());
+        e = assertThrows(IllegalArgumentException.class, () -> Base60.parse("1:75"));
+        assertTrue(e.getMessage().contains("position 2"), e.getMessage());
+        e = assertThrows(IllegalArgumentException.class, () -> Base60.parse("1::2"));
+        assertTrue(e.getMessage().contains("position 2"), e.getMessage());
+    }
+
+    @Test
+    @DisplayName("parse: порожній рядок і самий '-', як і раніше, дають нуль")
+    void parseEmptyIsZero() {
+        assertEquals(Base60.fromInt(0), Base60.parse(""));
+        assertEquals(Base60.fromInt(0), Base60.parse("-"));
+        byte[] utf8 = "+-y".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(Base60.fromInt(0), Base60.parse(utf8, 1, 1));
+        assertEquals(Base60.fromInt(0), Base60.parse(utf8, 1, 0));
+    }
+
+    @Test
+    @DisplayName("parse — порожня група чи частина кидають IllegalArgumentException")
+    void parseEmpty() {
+        assertThrows(IllegalArgumentException.class, () -> Base60.parse("."));
+        assertThrows(IllegalArgumentException.class, () -> Base60.parse("-."));
+        assertThrows(IllegalArgumentException.class, () -> Base60.parse("1:"));
+        assertThrows(IllegalArgumentException.class, () -> Base60.parse("1.2.3"));
+    }
+
+    @Test
+    @DisplayName("parse(CharSequence, from, to) читає лише діапазон")
+    void parseCharSequenceRange() {
+        StringBuilder log = new StringBuilder("t=2:46:58.30:15;");
+        assertEquals(Base60.parse("2:46:58.30:15"), Base60.parse(log, 2, log.length() - 1));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> Base60.parse(log, 0, 5));
+        assertTrue(e.getMessage().contains("position 0"), e.getMessage());
+    }
+
+    @Test
+    @DisplayName("parse(byte[], off, len) читає UTF-8 буфер")
+    void parseBytes() {
+        byte[] buffer = "xx-1:30.15yy".getBytes(StandardCharsets.UTF_8);
+        assertEquals(Base60.parse("-1:30.15"), Base60.parse(buffer, 2, 8));
+        assertThrows(IndexOutOfBoundsException.class, () -> Base60.parse(buffer, 10, 5));
+        // позиція помилки — індекс у масиві, а не зміщення від off
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> Base60.parse(buffer, 2, 9));
+        assertTrue(e.getMessage().contains("position 10"), e.getMessage());
+    }
+
+    @Test
+    @DisplayName("parse — довгі числа через межу long")
+    void parseLong() {
+        assertEquals(Base60.fromLong(60L * 60 * 60 * 60 * 60 * 60 * 60 * 60 * 60 * 60),
+                Base60.parse("1:0:0:0:0:0:0:0:0:0:0"));
+        BigInteger n = new BigInteger(5_000, new Random(7));
+        Base60 value = Base60.fromFraction(n, BigInteger.valueOf(60).pow(37));
+        assertEquals(value, Base60.parse(value.toString(40)));
+        assertEquals(value.negate(), Base60.parse(value.negate().toString(40)));
+    }
+
+    @Test
+    @DisplayName("parse — період у дужках дає точний дріб: 0.(8:34:17) = 1/7")
+    void parsePeriodic() {
+        assertEquals(Base60.fromFraction(1, 7), Base60.parse("0.(8:34:17)"));
+        assertEquals(Base60.fromFraction(1, 14), Base60.parse("0.4:(17:8:34)"));
+        assertEquals(Base60.fromFraction(-15, 7), Base60.parse("-2.(8:34:17)"));
+        assertEquals(Base60.fromInt(1), Base60.parse("0.(59)"));
+        assertEquals(Base60.fromInt(1), Base60.parse("1.(0)"));
+    }
+
+    @Test
+    @DisplayName("parse(toBase60WithPeriod()) повертає те саме число")
+    void parsePeriodicRoundTrip() {
+        for (int den = 1; den <= 300; den++) {
+            for (int num : new int[]{1, -5, 61 * den + 1}) {
+                Base60 value = Base60.fromFraction(num, den);
+                assertEquals(value, Base60.parse(value.toBase60WithPeriod()), num + "/" + den);
+            }
+        }
+        Base60 longPeriod = Base60.fromFraction(1234, 10007);
+        assertEquals(longPeriod, Base60.parse(longPeriod.toBase60WithPeriod()));
+    }
+
+    @Test
+    @DisplayName("parse — неправильні дужки періоду")
+    void parsePeriodicInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> Base60.parse("0.(8:34"));
+        assertThrows(IllegalArgumentException.class, () -> Base60.parse("(1).5"));
+        assertThrows(IllegalArgumentException.class, () -> Base60.parse("0.(1):2"));
+        assertThrows(IllegalArgumentException.class, () -> Base60.parse("0.(1:(2)"));
+        assertThrows(IllegalArgumentException.class, () -> Base60.parse("0.()"));
+    }
+
     // -------------------------------------------------------------------------
     // Арифметика
     // -------------------------------------------------------------------------
@@ -214,6 +377,242 @@ class Base60Test {
         assertEquals(a.add(b).multiply(c), a.multiply(c).add(b.multiply(c)));
     }
 
+    // -------------------------------------------------------------------------
+    // Компактне (long) представлення та перехід на BigInteger
+    // -------------------------------------------------------------------------
+
+    @Test
+    @DisplayName("додавання з переповненням long дає точний результат")
+    void addOverflowPromotes() {
+        Base60 max = Base60.fromLong(Long.MAX_VALUE);
+        BigInteger expected = BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE);
+        assertEquals(Base60.fromInteger(expected), max.add(Base60.fromInt(1)));
+    }
+
+    @Test
+    @DisplayName("після переповнення результат повертається в компактний режим")
+    void overflowAndBack() {
+        Base60 max = Base60.fromLong(Long.MAX_VALUE);
+        Base60 big = max.multiply(max);
+        assertEquals(max, big.divide(max));
+        assertEquals(max.hashCode(), big.divide(max).hashCode());
+    }
+
+    @Test
+    @DisplayName("fromLong(Long.MIN_VALUE) коректно заперечується")
+    void longMinValue() {
+        Base60 min = Base60.fromLong(Long.MIN_VALUE);
+        assertEquals(Base60.fromInteger(BigInteger.valueOf(Long.MIN_VALUE).negate()), min.negate());
+        assertEquals(Long.MIN_VALUE, min.longValue());
+        assertEquals(Base60.fromFraction(Long.MIN_VALUE, 2L), Base60.fromLong(Long.MIN_VALUE / 2));
+    }
+
+    @Test
+    @DisplayName("compareTo з добутками, що виходять за long")
+    void compareToLargeCrossProducts() {
+        Base60 a = Base60.fromFraction(Long.MAX_VALUE - 1, Long.MAX_VALUE);
+        Base60 b = Base60.fromFraction(Long.MAX_VALUE - 2, Long.MAX_VALUE - 1);
+        assertTrue(a.compareTo(b) > 0);
+        assertTrue(b.compareTo(a) < 0);
+        assertTrue(a.negate().compareTo(b.negate()) < 0);
+    }
+
+    @Test
+    @DisplayName("mod з переповненням збігається з BigInteger-розрахунком")
+    void modOverflow() {
+        Base60 a = Base60.fromFraction(Long.MAX_VALUE, 3L);
+        Base60 b = Base60.fromFraction(7L, Long.MAX_VALUE - 1);
+        Base60 q = Base60.fromInteger(a.divide(b).toInteger());
+        Base60 expected = a.subtract(b.multiply(q));
+        assertEquals(expected, a.mod(b));
+    }
+
+    // -------------------------------------------------------------------------
+    // Кеш малих цілих і регулярних обернених
+    // -------------------------------------------------------------------------
+
+    @Test
+    @DisplayName("цілі від -128 до 3600 повертаються з кешу")
+    void smallIntegersCached() {
+        assertSame(Base60.fromInt(-128), Base60.fromLong(-128));
+        assertSame(Base60.fromInt(3600), Base60.valueOf(3600));
+        assertSame(Base60.fromInt(0), Base60.fromInt(5).subtract(Base60.fromInt(5)));
+        assertSame(Base60.fromInt(60), Base60.parse("1:0"));
+        assertSame(Base60.fromInt(1), Base60.fromFraction(7, 7));
+        assertNotSame(Base60.fromInt(3601), Base60.fromInt(3601));
+        assertNotSame(Base60.fromInt(-129), Base60.fromInt(-129));
+    }
+
+    @Test
+    @DisplayName("регулярні обернені 1/n (n ≤ 3600) повертаються з кешу")
+    void regularReciprocalsCached() {
+        assertSame(Base60.fromFraction(1, 60), Base60.fromFraction(3, 180));
+        assertSame(Base60.fromFraction(1, 2), Base60.parse("0.30"));
+        assertSame(Base60.fromFraction(1, 3600), Base60.fromFraction(1, 60).multiply(Base60.fromFraction(1, 60)));
+        assertSame(Base60.fromFraction(1, 81), Base60.valueOf(1, 81));
+        assertNotSame(Base60.fromFraction(1, 7), Base60.fromFraction(1, 7));
+        assertNotSame(Base60.fromFraction(1, 4096), Base60.fromFraction(1, 4096));
+    }
+
+    @Test
+    @DisplayName("кешовані значення збігаються з обчисленими через BigInteger")
+    void cachedValuesCorrect() {
+        for (int n = 1; n <= 3600; n++) {
+            assertReduced(Base60.fromFraction(BigInteger.ONE, BigInteger.valueOf(n)), Base60.fromFraction(1, n));
+            assertReduced(Base60.fromInteger(BigInteger.valueOf(n - 128)), Base60.fromInt(n - 128));
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Перехресне скорочення: результат збігається з наївною формулою
+    // -------------------------------------------------------------------------
+
+    @Test
+    @DisplayName("add/subtract/multiply/divide збігаються з наївними формулами")
+    void crossReductionMatchesNaive() {
+        Random random = new Random(12);
+        for (int i = 0; i < 2_000; i++) {
+            // Спільні множники в знаменниках, щоб скорочення справді спрацьовувало
+            BigInteger common = BigInteger.valueOf(60).pow(random.nextInt(4));
+            int bits = i % 2 == 0 ? 30 : 90;
+            BigInteger a = new BigInteger(bits, random).subtract(BigInteger.ONE.shiftLeft(bits - 1));
+            BigInteger b = new BigInteger(bits, random).add(BigInteger.ONE).multiply(common);
+            BigInteger c = new BigInteger(bits, random).subtract(BigInteger.ONE.shiftLeft(bits - 1));
+            BigInteger d = new BigInteger(bits, random).add(BigInteger.ONE).multiply(common);
+            Base60 x = Base60.fromFraction(a, b);
+            Base60 y = Base60.fromFraction(c, d);
+            assertReduced(Base60.fromFraction(a.multiply(d).add(c.multiply(b)), b.multiply(d)), x.add(y));
+            assertReduced(Base60.fromFraction(a.multiply(d).subtract(c.multiply(b)), b.multiply(d)), x.subtract(y));
+            assertReduced(Base60.fromFraction(a.multiply(c), b.multiply(d)), x.multiply(y));
+            if (c.signum() != 0) {
+                assertReduced(Base60.fromFraction(a.multiply(d), b.multiply(c)), x.divide(y));
+            }
+        }
+    }
+
+    private static void assertReduced(Base60 expected, Base60 actual) {
+        assertEquals(expected.numerator(), actual.numerator());
+        assertEquals(expected.denominator(), actual.denominator());
+    }
+
+    @Test
+    @DisplayName("x - x = 0 і x · 0 = 0 для великих дробів")
+    void crossReductionZero() {
+        Base60 x = Base60.fromFraction(BigInteger.TWO.pow(200).add(BigInteger.ONE), BigInteger.valueOf(60).pow(40));
+        assertEquals(BigInteger.ZERO, x.subtract(x).numerator());
+        assertEquals(BigInteger.ONE, x.subtract(x).denominator());
+        assertEquals(BigInteger.ONE, x.multiply(Base60.fromInt(0)).denominator());
+        assertEquals(BigInteger.ONE, Base60.fromInt(0).divide(x).denominator());
+    }
+
+    @Test
+    @DisplayName("від'ємний степінь від'ємного дробу: знак у чисельнику")
+    void negativePowerOfNegative() {
+        Base60 x = Base60.fromFraction(-2, 3);
+        assertReduced(Base60.fromFraction(-27, 8), x.pow(-3));
+        assertReduced(Base60.fromFraction(9, 4), x.pow(-2));
+    }
+
+    @Test
+    @DisplayName("ділення на від'ємне з результатом Long.MIN_VALUE")
+    void divideToLongMinValue() {
+        Base60 x = Base60.fromLong(Long.MAX_VALUE).add(Base60.fromInt(1));
+        assertEquals(Base60.fromLong(Long.MIN_VALUE), x.divide(Base60.fromInt(-1)));
+        assertEquals(Base60.fromLong(Long.MIN_VALUE),
+                Base60.fromLong(Long.MIN_VALUE / 2).divide(Base60.fromFraction(1, 2)));
+    }
+
+    // -------------------------------------------------------------------------
+    // sum / product / Collector
+    // -------------------------------------------------------------------------
+
+    @Test
+    @DisplayName("sum збігається з ланцюжком add")
+    void sumMatchesChainedAdd() {
+        List<Base60> values = new ArrayList<>();
+        Base60 expected = Base60.fromInt(0);
+        for (int n = 1; n <= 2_000; n++) {
+            Base60 v = Base60.fromFraction(n % 3 == 0 ? -n : n, n + 1);
+            values.add(v);
+            expected = expected.add(v);
+        }
+        assertEquals(expected, Base60.sum(values));
+        assertEquals(expected, values.stream().collect(Base60.summing()));
+    }
+
+    @Test
+    @DisplayName("паралельна сума великої колекції дорівнює послідовній")
+    void parallelSum() {
+        List<Base60> values = IntStream.rangeClosed(1, 100_000)
+                .mapToObj(n -> Base60.fromFraction(n, n % 997 + 1))
+                .toList();
+        Base60Accumulator acc = new Base60Accumulator();
+        values.forEach(acc::add);
+        Base60 expected = acc.toBase60();
+        assertEquals(expected, Base60.sum(values));
+        assertEquals(expected, values.parallelStream().collect(Base60.summing()));
+        assertEquals(expected, values.stream().collect(Base60.summing()));
+    }
+
+    @Test
+    @DisplayName("product телескопується: ∏ (n+1)/n = N+1")
+    void productTelescopes() {
+        List<Base60> values = IntStream.rangeClosed(1, 10_000)
+                .mapToObj(n -> Base60.fromFraction(n + 1, n))
+                .toList();
+        assertEquals(Base60.fromInt(10_001), Base60.product(values));
+        assertEquals(Base60.fromInt(10_001), values.parallelStream().collect(Base60.multiplying()));
+    }
+
+    @Test
+    @DisplayName("порожня колекція: сума 0, добуток 1; null кидає NullPointerException")
+    void sumProductEdgeCases() {
+        assertEquals(Base60.fromInt(0), Base60.sum(List.of()));
+        assertEquals(Base60.fromInt(1), Base60.product(List.of()));
+        assertEquals(Base60.fromInt(1), Stream.<Base60>empty().collect(Base60.multiplying()));
+        assertThrows(NullPointerException.class,
+                () -> Base60.sum(Arrays.asList(Base60.fromInt(1), null)));
+    }
+
+    // -------------------------------------------------------------------------
+    // Регулярні числа та ділення на них
+    // -------------------------------------------------------------------------
+
+    @Test
+    @DisplayName("isRegular: 2^a · 3^b · 5^c з цілими показниками")
+    void isRegular() {
+        assertTrue(Base60.fromInt(360).isRegular());
+        assertTrue(Base60.fromFraction(-27, 16).isRegular());
+        assertTrue(Base60.fromInteger(BigInteger.valueOf(60).pow(500)).isRegular());
+        assertTrue(Base60.fromFraction(BigInteger.valueOf(3).pow(100), BigInteger.valueOf(5).pow(70)).isRegular());
+        assertFalse(Base60.fromInt(7).isRegular());
+        assertFalse(Base60.fromFraction(1, 14).isRegular());
+        assertFalse(Base60.fromInt(0).isRegular());
+        assertFalse(Base60.fromInteger(BigInteger.valueOf(60).pow(500).multiply(BigInteger.valueOf(7))).isRegular());
+        assertFalse(Base60.fromInteger(BigInteger.valueOf(3).pow(200).add(BigInteger.valueOf(3))).isRegular());
+    }
+
+    @Test
+    @DisplayName("ділення великих дробів на регулярні збігається з наївною формулою")
+    void divideByRegular() {
+        Random random = new Random(19);
+        for (int i = 0; i < 1_000; i++) {
+            BigInteger a = new BigInteger(200, random).subtract(BigInteger.ONE.shiftLeft(199))
+                    .multiply(BigInteger.valueOf(60).pow(random.nextInt(3)));
+            BigInteger b = new BigInteger(200, random).add(BigInteger.ONE)
+                    .multiply(BigInteger.valueOf(30).pow(random.nextInt(3)));
+            BigInteger c = BigInteger.TWO.pow(random.nextInt(80)).multiply(BigInteger.valueOf(3).pow(random.nextInt(40)));
+            BigInteger d = BigInteger.valueOf(5).pow(random.nextInt(30));
+            if (random.nextBoolean()) {
+                c = c.negate();
+            }
+            Base60 x = Base60.fromFraction(a, b);
+            Base60 y = Base60.fromFraction(c, d);
+            assertTrue(y.isRegular());
+            assertReduced(Base60.fromFraction(a.multiply(d), b.multiply(c)), x.divide(y));
+        }
+    }
+
     // -------------------------------------------------------------------------
     // Порівняння / equals / hashCode
     // -------------------------------------------------------------------------
@@ -256,6 +655,44 @@ class Base60Test {
         assertTrue(Base60.fromInt(-1).compareTo(Base60.fromInt(0)) < 0);
     }
 
+    @Test
+    @DisplayName("compareTo і equals збігаються з перехресним множенням")
+    void compareToMatchesCrossProduct() {
+        Random random = new Random(13);
+        for (int i = 0; i < 5_000; i++) {
+            // Різні довжини, знаки та майже рівні пари (x і x ± 1/den²)
+            Base60 x = randomFraction(random, 1 + random.nextInt(200));
+            Base60 y = switch (i % 3) {
+                case 0 -> randomFraction(random, 1 + random.nextInt(200));
+                case 1 -> x.add(Base60.fromFraction(BigInteger.ONE, x.denominator().pow(2).shiftLeft(random.nextInt(64))));
+                default -> x.negate();
+            };
+            int expected = x.numerator().multiply(y.denominator())
+                    .compareTo(y.numerator().multiply(x.denominator()));
+            assertEquals(expected, Integer.signum(x.compareTo(y)), x + " vs " + y);
+            assertEquals(-expected, Integer.signum(y.compareTo(x)), y + " vs " + x);
+            assertEquals(expected == 0, x.equals(y));
+        }
+    }
+
+    private static Base60 randomFraction(Random random, int bits) {
+        BigInteger num = new BigInteger(bits, random);
+        BigInteger den = new BigInteger(1 + random.nextInt(200), random).add(BigInteger.ONE);
+        return Base60.fromFraction(random.nextBoolean() ? num : num.negate(), den);
+    }
+
+    @Test
+    @DisplayName("equals: однакові значення з різних шляхів обчислення")
+    void equalsAcrossRepresentations() {
+        Base60 max = Base60.fromLong(Long.MAX_VALUE);
+        Base60 huge = Base60.fromFraction(BigInteger.TWO.pow(300).add(BigInteger.ONE), BigInteger.valueOf(7));
+        assertEquals(max, max.multiply(max).divide(max));
+        assertEquals(huge, huge.add(max).subtract(max));
+        assertNotEquals(huge, huge.negate());
+        assertNotEquals(max, huge);
+        assertEquals(0, huge.compareTo(huge.add(max).subtract(max)));
+    }
+
     // -------------------------------------------------------------------------
     // Форматування toString
     // -------------------------------------------------------------------------
@@ -273,6 +710,38 @@ class Base60Test {
         assertEquals(expected, Base60.fromInt(value).toString());
     }
 
+    @Test
+    @DisplayName("toString: 60^2000 - 1 → 2000 розрядів 59")
+    void toStringHugeAllNines() {
+        BigInteger n = BigInteger.valueOf(60).pow(2000).subtract(BigInteger.ONE);
+        String expected = String.join(":", Collections.nCopies(2000, "59"));
+        assertEquals(expected, Base60.fromInteger(n).toString());
+    }
+
+    @Test
+    @DisplayName("toString: 60^1500 зберігає внутрішні нулі")
+    void toStringHugePowerOfSixty() {
+        BigInteger n = BigInteger.valueOf(60).pow(1500);
+        assertEquals("1" + ":0".repeat(1500), Base60.fromInteger(n).toString());
+    }
+
+    @Test
+    @DisplayName("toString великого цілого збігається з поцифровим розкладом")
+    void toStringHugeMatchesNaive() {
+        BigInteger n = new BigInteger(20_000, new Random(60)).negate();
+        List<String> digits = new ArrayList<>();
+        BigInteger rest = n.abs();
+        while (rest.signum() > 0) {
+            BigInteger[] divRem = rest.divideAndRemainder(BigInteger.valueOf(60));
+            digits.add(divRem[1].toString());
+            rest = divRem[0];
+        }
+        Collections.reverse(digits);
+        String naive = String.join(":", digits);
+        assertEquals("-" + naive, Base60.fromInteger(n).toString());
+        assertEquals("-" + naive, Base60.fromInteger(n).toBase60WithPeriod());
+    }
+
     @Test
     @DisplayName("toString: дріб 1/2 = 0.30")
     void toStringHalf() {
@@ -304,6 +773,105 @@ class Base60Test {
         }
     }
 
+    @Test
+    @DisplayName("toString(500) з великим знаменником збігається з поцифровим розкладом")
+    void toStringHighPrecisionLargeDenominator() {
+        BigInteger den = new BigInteger(3_000, new Random(17)).setBit(2_999).setBit(0);
+        BigInteger num = den.multiply(BigInteger.valueOf(5)).add(den.shiftRight(3));
+        Base60 value = Base60.fromFraction(num, den);
+        BigInteger r = value.numerator().remainder(value.denominator());
+        StringBuilder expected = new StringBuilder("5.");
+        for (int i = 0; i < 500; i++) {
+            r = r.multiply(BigInteger.valueOf(60));
+            expected.append(i > 0 ? ":" : "").append(r.divide(value.denominator()));
+            r = r.remainder(value.denominator());
+        }
+        String digits = expected.toString().replaceAll("(:0)+$", "");
+        assertEquals(digits, value.toString(500));
+    }
+
+    @Test
+    @DisplayName("toString(precision ≤ 0) показує лише цілу частину")
+    void toStringZeroPrecision() {
+        assertEquals("1", Base60.fromFraction(3, 2).toString(0));
+    }
+
+    @Test
+    @DisplayName("toString з величезною точністю для скінченного дробу не виділяє пам'ять під точність")
+    void toStringHugePrecisionTerminating() {
+        assertEquals("0.30", Base60.fromFraction(1, 2).toString(Integer.MAX_VALUE));
+        Base60 tiny = Base60.fromFraction(BigInteger.ONE, BigInteger.TWO.pow(100));
+        assertEquals(tiny.toString(60), tiny.toString(Integer.MAX_VALUE));
+        assertEquals(tiny, Base60.parse(tiny.toString(Integer.MAX_VALUE)));
+    }
+
+    @Test
+    @DisplayName("toString(10000) для періодичного дробу з великим знаменником — блоками")
+    void toStringManyDigitsPeriodic() {
+        Base60 value = Base60.fromFraction(BigInteger.ONE, BigInteger.valueOf(7).pow(30));
+        String streamed = "0." + value.fractionDigits().limit(10_000)
+                .mapToObj(Integer::toString)
+                .collect(Collectors.joining(":"));
+        assertEquals(streamed.replaceAll("(:0)+$", ""), value.toString(10_000));
+    }
+
+    // -------------------------------------------------------------------------
+    // formatTo / writeTo
+    // -------------------------------------------------------------------------
+
+    @Test
+    @DisplayName("formatTo(StringBuilder) дописує в кінець і збігається з toString")
+    void formatToStringBuilder() {
+        Base60 x = Base60.parse("-1:2:59.7:30");
+        StringBuilder sb = new StringBuilder("x = ");
+        assertSame(sb, x.formatTo(sb, 10));
+        assertEquals("x = " + x.toString(10), sb.toString());
+        assertEquals("x = -1:2:59.7:30", sb.toString());
+    }
+
+    @Test
+    @DisplayName("formatTo(Appendable): Writer і CharBuffer")
+    void formatToAppendable() throws IOException {
+        Base60 x = Base60.fromFraction(-1, 7);
+        StringWriter writer = new StringWriter();
+        x.formatTo(writer, 6);
+        assertEquals(x.toString(6), writer.toString());
+        CharBuffer chars = CharBuffer.allocate(64);
+        x.formatTo(chars, 6).append(' ');
+        x.formatWithPeriodTo(chars);
+        assertEquals(x.toString(6) + " " + x.toBase60WithPeriod(), chars.flip().toString());
+        StringBuilder sumerian = new StringBuilder();
+        Base60.fromInt(3661).formatSumerianTo(sumerian, 10);
+        assertEquals(Base60.fromInt(3661).toSumerianString(), sumerian.toString());
+    }
+
+    @Test
+    @DisplayName("writeTo(ByteBuffer) пише ASCII-байти toString")
+    void writeToByteBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        for (Base60 x : new Base60[] {Base60.fromInt(0), Base60.parse("59:0:10.9:50"),
+                Base60.fromFraction(-22, 7), Base60.fromInteger(BigInteger.TWO.pow(100))}) {
+            buffer.clear();
+            x.writeTo(buffer, 12);
+            buffer.flip();
+            assertEquals(x.toString(12), StandardCharsets.UTF_8.decode(buffer).toString());
+        }
+    }
+
+    @Test
+    @DisplayName("writeTo: нестача місця кидає BufferOverflowException і не змінює буфер")
+    void writeToOverflow() {
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.put((byte) 'x');
+        assertThrows(BufferOverflowException.class, () -> Base60.parse("1:2:3:45").writeTo(buffer, 10));
+        assertEquals(1, buffer.position());
+        Base60.parse("1:2:3").writeTo(buffer, 10);
+        assertEquals(6, buffer.position());
+        assertThrows(BufferOverflowException.class, () -> Base60.parse("1:2").writeTo(buffer, 10));
+        Base60.parse("12").writeTo(buffer, 10);
+        assertFalse(buffer.hasRemaining());
+    }
+
     // -------------------------------------------------------------------------
     // toBase60WithPeriod
     // -------------------------------------------------------------------------
@@ -334,6 +902,187 @@ class Base60Test {
         assertEquals("-" + pos, neg);
     }
 
+    @Test
+    @DisplayName("передперіод перед циклом: 1/14 = 0.4:(17:8:34)")
+    void withPeriodPreperiod() {
+        assertEquals("0.4:(17:8:34)", Base60.fromFraction(1, 14).toBase60WithPeriod());
+    }
+
+    @Test
+    @DisplayName("toBase60WithPeriod збігається з відстеженням залишків")
+    void withPeriodMatchesRemainderTracking() {
+        for (int den = 1; den <= 400; den++) {
+            for (int num : new int[]{1, 7, den - 1, 3 * den + 1}) {
+                Base60 value = Base60.fromFraction(num, den);
+                assertEquals(periodByRemainders(value), value.toBase60WithPeriod(), num + "/" + den);
+            }
+        }
+    }
+
+    // Еталон: пряме відстеження повторних залишків
+    private static String periodByRemainders(Base60 value) {
+        BigInteger sixty = BigInteger.valueOf(60);
+        BigInteger den = value.denominator();
+        BigInteger current = value.numerator().abs().remainder(den);
+        String intPart = Base60.fromInteger(value.numerator().abs().divide(den)).toString();
+        if (current.signum() == 0) {
+            return intPart;
+        }
+        Map<BigInteger, Integer> seen = new HashMap<>();
+        List<String> digits = new ArrayList<>();
+        while (current.signum() != 0 && !seen.containsKey(current)) {
+            seen.put(current, digits.size());
+            current = current.multiply(sixty);
+            digits.add(current.divide(den).toString());
+            current = current.remainder(den);
+        }
+        if (current.signum() != 0) {
+            int start = seen.get(current);
+            digits.set(start, "(" + digits.get(start));
+            digits.set(digits.size() - 1, digits.get(digits.size() - 1) + ")");
+        }
+        return intPart + "." + String.join(":", digits);
+    }
+
+    @Test
+    @DisplayName("periodLength / preperiodLength без генерування розрядів")
+    void periodAndPreperiodLength() {
+        assertEquals(0, Base60.fromFraction(1, 7).preperiodLength());
+        assertEquals(3, Base60.fromFraction(1, 7).periodLength());
+        assertEquals(1, Base60.fromFraction(1, 14).preperiodLength());
+        assertEquals(2, Base60.fromFraction(1, 8).preperiodLength());
+        assertEquals(0, Base60.fromFraction(1, 8).periodLength());
+        assertEquals(0, Base60.fromInt(5).periodLength());
+        assertEquals(0, Base60.fromInt(5).preperiodLength());
+    }
+
+    @Test
+    @DisplayName("periodLength для великого простого знаменника")
+    void periodLengthLargePrime() {
+        long p = 1_000_000_007L;
+        long period = Base60.fromFraction(1, p).periodLength();
+        BigInteger bp = BigInteger.valueOf(p);
+        assertEquals(0, (p - 1) % period);
+        assertEquals(BigInteger.ONE, BigInteger.valueOf(60).modPow(BigInteger.valueOf(period), bp));
+        // період мінімальний: жоден дільник (p - 1) / q не дає 1
+        for (long q : new long[]{2, 500_000_003L}) {
+            if (period % q == 0) {
+                assertNotEquals(BigInteger.ONE,
+                        BigInteger.valueOf(60).modPow(BigInteger.valueOf(period / q), bp));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("periodLength для складеного знаменника з великими простими множниками")
+    void periodLengthCompositeDenominator() {
+        // 1000003 · 1000033 — обидва прості; період = lcm(ord_p(60), ord_q(60))
+        long p = 1_000_003L;
+        long q = 1_000_033L;
+        long ordP = Base60.fromFraction(1, p).periodLength();
+        long ordQ = Base60.fromFraction(1, q).periodLength();
+        long lcm = ordP / BigInteger.valueOf(ordP).gcd(BigInteger.valueOf(ordQ)).longValue() * ordQ;
+        assertEquals(lcm, Base60.fromFraction(1, p * q).periodLength());
+    }
+
+    @Test
+    @DisplayName("periodLength для знаменника понад long — через розклад, а не перебір степенів")
+    void periodLengthBigDenominator() {
+        BigInteger sixty = BigInteger.valueOf(60);
+        // Добуток простих 7..89 (понад 2^100): період = lcm періодів для кожного простого
+        BigInteger m = BigInteger.ONE;
+        long lcm = 1;
+        for (long p = 7; p < 90; p = BigInteger.valueOf(p).nextProbablePrime().longValue()) {
+            m = m.multiply(BigInteger.valueOf(p));
+            long ord = Base60.fromFraction(1, p).periodLength();
+            lcm = lcm / BigInteger.valueOf(lcm).gcd(BigInteger.valueOf(ord)).longValue() * ord;
+        }
+        assertTrue(m.bitLength() > 100);
+        assertEquals(lcm, Base60.fromFraction(BigInteger.ONE, m).periodLength());
+        // (2^31 - 1) · (2^61 - 1): множник 2^31 - 1 знаходить ρ-метод
+        long p31 = (1L << 31) - 1;
+        long p61 = (1L << 61) - 1;
+        long ord31 = Base60.fromFraction(1, p31).periodLength();
+        long ord61 = Base60.fromFraction(1, p61).periodLength();
+        BigInteger lcmMersenne = BigInteger.valueOf(ord31).multiply(BigInteger.valueOf(ord61))
+                .divide(BigInteger.valueOf(ord31).gcd(BigInteger.valueOf(ord61)));
+        assertEquals(lcmMersenne.longValueExact(),
+                Base60.fromFraction(BigInteger.ONE, BigInteger.valueOf(p31).multiply(BigInteger.valueOf(p61))).periodLength());
+        // 66-бітне просте: період кратний λ(m) = m - 1 > long — ArithmeticException замість нескінченного циклу
+        BigInteger prime = new BigInteger("36893488147419103363");
+        Base60 value = Base60.fromFraction(BigInteger.ONE, prime);
+        long start = System.nanoTime();
+        try {
+            long order = value.periodLength();
+            assertEquals(BigInteger.ONE, sixty.modPow(BigInteger.valueOf(order), prime));
+        } catch (ArithmeticException expected) {
+            assertThrows(ArithmeticException.class, value::toBase60WithPeriod);
+        }
+        assertTrue(System.nanoTime() - start < 10_000_000_000L);
+    }
+
+    @Test
+    @DisplayName("periodLength: 1/(60^k - 1) має період k, навіть коли знаменник не розкладається")
+    void periodLengthRepunit() {
+        for (int k : new int[]{40, 50, 64}) {
+            BigInteger m = BigInteger.valueOf(60).pow(k).subtract(BigInteger.ONE);
+            Base60 value = Base60.fromFraction(BigInteger.ONE, m);
+            assertEquals(k, value.periodLength());
+            String expected = "0.(" + "0:".repeat(k - 1) + "1)";
+            assertEquals(expected, value.toBase60WithPeriod());
+            assertEquals(value, Base60.parse(value.toBase60WithPeriod()));
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // integerDigits / fractionDigits
+    // -------------------------------------------------------------------------
+
+    @Test
+    @DisplayName("integerDigits: 3661 → 1, 1, 1; нуль → 0")
+    void integerDigitsSmall() {
+        assertArrayEquals(new int[]{1, 1, 1}, Base60.fromInt(3661).integerDigits().toArray());
+        assertArrayEquals(new int[]{0}, Base60.fromFraction(1, 2).integerDigits().toArray());
+        assertArrayEquals(new int[]{2, 46, 58}, Base60.parse("-2:46:58.30").integerDigits().toArray());
+    }
+
+    @Test
+    @DisplayName("integerDigits великого числа збігається з toString")
+    void integerDigitsHuge() {
+        BigInteger n = new BigInteger(30_000, new Random(9)).multiply(BigInteger.valueOf(60).pow(300));
+        String expected = Base60.fromInteger(n).toString();
+        String streamed = Base60.fromInteger(n).integerDigits()
+                .mapToObj(Integer::toString)
+                .collect(Collectors.joining(":"));
+        assertEquals(expected, streamed);
+    }
+
+    @Test
+    @DisplayName("fractionDigits: скінченний дріб має точну довжину")
+    void fractionDigitsFinite() {
+        assertArrayEquals(new int[]{7, 30}, Base60.fromFraction(1, 8).fractionDigits().toArray());
+        assertEquals(0, Base60.fromInt(5).fractionDigits().count());
+    }
+
+    @Test
+    @DisplayName("fractionDigits: 1/7 — нескінченний потік, можна обірвати")
+    void fractionDigitsInfinite() {
+        assertArrayEquals(new int[]{8, 34, 17, 8, 34, 17, 8},
+                Base60.fromFraction(-1, 7).fractionDigits().limit(7).toArray());
+    }
+
+    @Test
+    @DisplayName("fractionDigits з великим знаменником збігається з toString(300)")
+    void fractionDigitsLargeDenominator() {
+        BigInteger den = new BigInteger(2_000, new Random(5)).setBit(0);
+        Base60 value = Base60.fromFraction(den.divide(BigInteger.valueOf(3)), den);
+        String expected = value.toString(300);
+        String streamed = "0." + value.fractionDigits().limit(300)
+                .mapToObj(Integer::toString)
+                .collect(Collectors.joining(":"));
+        assertEquals(expected, streamed.replaceAll("(:0)+$", ""));
+    }
+
     // -------------------------------------------------------------------------
     // toDecimal / toInteger
     // -------------------------------------------------------------------------
@@ -444,6 +1193,52 @@ class Base60Test {
         assertTrue(Base60.fromInt(-1).toSumerianString().startsWith("-"));
     }
 
+    // -------------------------------------------------------------------------
+    // parseSumerian
+    // -------------------------------------------------------------------------
+
+    @Test
+    @DisplayName("parseSumerian: зворотний до toSumerianString з тією самою точністю")
+    void parseSumerianRoundTrip() {
+        Random random = new Random(23);
+        for (int i = 0; i < 500; i++) {
+            Base60 x = randomFraction(random, 1 + random.nextInt(300));
+            int precision = random.nextInt(30);
+            assertEquals(Base60.parse(x.toString(precision)), Base60.parseSumerian(x.toSumerianString(precision)), x.toString());
+        }
+        Base60 exact = Base60.parse("-1:0:59.0:30:0:7");
+        assertEquals(exact, Base60.parseSumerian(exact.toSumerianString()));
+    }
+
+    @Test
+    @DisplayName("parseSumerian: UTF-8 байти і підрядок")
+    void parseSumerianUtf8() {
+        Base60 x = Base60.fromFraction(-22, 7);
+        String text = "[" + x.toSumerianString(12) + "]";
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        Base60 expected = Base60.parse(x.toString(12));
+        assertEquals(expected, Base60.parseSumerian(text, 1, text.length() - 1));
+        assertEquals(expected, Base60.parseSumerian(utf8, 1, utf8.length - 2));
+    }
+
+    @Test
+    @DisplayName("parseSumerian: некоректний запис — IllegalArgumentException")
+    void parseSumerianErrors() {
+        String ten = Character.toString(0x1230B);
+        String one = Character.toString(0x12079);
+        String zero = Character.toString(0x12471);
+        String frac = Character.toString(0x12472);
+        for (String bad : new String[] {"", "-", one + " ", " " + one, one + "  " + one, one + ten,
+                ten.repeat(6), zero + one, one + zero, one + frac, frac + one, one + frac + one + frac + one,
+                one + "-", "1", one + "\uD808"}) {
+            assertThrows(IllegalArgumentException.class, () -> Base60.parseSumerian(bad), bad);
+            byte[] utf8 = bad.getBytes(StandardCharsets.UTF_8);
+            assertThrows(IllegalArgumentException.class, () -> Base60.parseSumerian(utf8, 0, utf8.length), bad);
+        }
+        assertThrows(IllegalArgumentException.class, () -> Base60.parseSumerian(new byte[] {(byte) 0xF0, (byte) 0x92}, 0, 2));
+        assertEquals(Base60.fromInt(50), Base60.parseSumerian(ten.repeat(5)));
+    }
+
     // -------------------------------------------------------------------------
     // negate / abs / signum
     // -------------------------------------------------------------------------
@@ -524,6 +1319,82 @@ class Base60Test {
                 "4^(1/2) має бути 2, отримали: " + result);
     }
 
+    @Test
+    @DisplayName("pow(Base60, places): раціональні корені точні")
+    void powRationalExact() {
+        assertEquals(Base60.fromInt(2), Base60.fromInt(4).pow(Base60.fromFraction(1, 2), 0));
+        assertEquals(Base60.fromFraction(9, 4), Base60.fromFraction(27, 8).pow(Base60.fromFraction(2, 3), 5));
+        assertEquals(Base60.fromInt(-2), Base60.fromInt(-8).pow(Base60.fromFraction(1, 3), 5));
+        assertEquals(Base60.fromFraction(1, 2), Base60.fromInt(8).pow(Base60.fromFraction(-1, 3), 5));
+        BigInteger big = BigInteger.TWO.pow(4000);
+        assertEquals(Base60.fromInteger(BigInteger.TWO.pow(2000)), Base60.fromInteger(big).pow(Base60.fromFraction(1, 2)));
+    }
+
+    @Test
+    @DisplayName("nthRoot округлює до найближчого значення з places розрядами")
+    void nthRootNearest() {
+        Random random = new Random(17);
+        for (int i = 0; i < 200; i++) {
+            int n = 2 + random.nextInt(6);
+            int places = random.nextInt(25);
+            Base60 x = Base60.fromFraction(1 + random.nextInt(1_000_000), 1 + random.nextInt(1_000));
+            Base60 root = x.nthRoot(n, places);
+            assertTrue(BigInteger.valueOf(60).pow(places).remainder(root.denominator()).signum() == 0);
+            // |root - ⁿ√x| ≤ 60^-places / 2
+            Base60 half = Base60.fromFraction(BigInteger.ONE, BigInteger.valueOf(60).pow(places).shiftLeft(1));
+            assertTrue(root.subtract(half).pow(n).compareTo(x) <= 0, x + " ^ 1/" + n + " → " + root);
+            assertTrue(root.add(half).pow(n).compareTo(x) >= 0, x + " ^ 1/" + n + " → " + root);
+        }
+    }
+
+    @Test
+    @DisplayName("pow(Base60, places) без double: 2^(3/2) і великі основи")
+    void powRationalPrecise() {
+        Base60 value = Base60.fromInt(2).pow(Base60.fromFraction(3, 2), 30);
+        Base60 unit = Base60.fromFraction(BigInteger.ONE, BigInteger.valueOf(60).pow(30));
+        assertTrue(value.subtract(unit).pow(2).compareTo(Base60.fromInt(8)) <= 0);
+        assertTrue(value.add(unit).pow(2).compareTo(Base60.fromInt(8)) >= 0);
+        // 2^3001 поза діапазоном double
+        Base60 huge = Base60.fromInteger(BigInteger.TWO.pow(3001)).pow(Base60.fromFraction(1, 3), 2);
+        Base60 hugeUnit = Base60.fromFraction(1, 3600);
+        Base60 cube = Base60.fromInteger(BigInteger.TWO.pow(3001));
+        assertTrue(huge.subtract(hugeUnit).pow(3).compareTo(cube) <= 0);
+        assertTrue(huge.add(hugeUnit).pow(3).compareTo(cube) >= 0);
+    }
+
+    @Test
+    @DisplayName("pow(Base60) з широким показником не кидає виняток і узгоджується з double")
+    void powBase60WideExponent() {
+        Base60 two = Base60.fromInt(2);
+        for (String exp : new String[]{"0.1", "1.2345678901", "1.2345678901234567890123456789"}) {
+            double expected = Math.pow(2, Double.parseDouble(exp));
+            double actual = two.pow(Base60.fromDecimal(new BigDecimal(exp))).doubleValue();
+            assertEquals(expected, actual, 1e-15, exp);
+        }
+        assertEquals(Math.pow(2, 0.1), two.pow(Base60.fromDouble(0.1)).doubleValue(), 1e-15);
+        assertEquals(Base60.fromInt(0), Base60.fromFraction(1, 2).pow(Base60.fromInteger(BigInteger.TWO.pow(40))));
+    }
+
+    @Test
+    @DisplayName("pow(Base60, places) з великим знаменником показника: 2^(1/3600) з 30 розрядами")
+    void powLargeRootDegree() {
+        Base60 root = Base60.fromInt(2).pow(Base60.fromFraction(1, 3600), 30);
+        Base60 unit = Base60.fromFraction(BigInteger.ONE, BigInteger.valueOf(60).pow(30));
+        assertTrue(root.subtract(unit).pow(3600).compareTo(Base60.fromInt(2)) <= 0);
+        assertTrue(root.add(unit).pow(3600).compareTo(Base60.fromInt(2)) >= 0);
+        assertEquals(Math.pow(2, 1e-4), Base60.fromInt(2).pow(Base60.fromFraction(1, 10_000)).doubleValue(), 1e-15);
+    }
+
+    @Test
+    @DisplayName("nthRoot: некоректні аргументи")
+    void nthRootErrors() {
+        assertThrows(ArithmeticException.class, () -> Base60.fromInt(-4).nthRoot(2, 5));
+        assertThrows(ArithmeticException.class, () -> Base60.fromInt(-4).pow(Base60.fromFraction(1, 2)));
+        assertThrows(IllegalArgumentException.class, () -> Base60.fromInt(4).nthRoot(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> Base60.fromInt(4).nthRoot(2, -1));
+        assertEquals(Base60.fromInt(0), Base60.fromInt(0).nthRoot(5, 5));
+    }
+
     // -------------------------------------------------------------------------
     // mod
     // -------------------------------------------------------------------------
@@ -584,11 +1455,13 @@ class Base60Test {
     }
 
     @Test
-    @DisplayName("sqrtSumerians(4) ≈ 2 (до 6 розрядів base-60)")
+    @DisplayName("sqrtSumerians точний для повних квадратів: 4, 3600, 9/16")
     void sqrtSumeriansExact() {
-        // Метод Герона в точній раціональній арифметиці не досягає точного 2,
-        // якщо початкове наближення ≠ 2. Перевіряємо збіг до 6 розрядів.
-        assertEquals("2", Base60.fromInt(4).sqrtSumerians().toString(6));
+        assertEquals(Base60.fromInt(2), Base60.fromInt(4).sqrtSumerians());
+        assertEquals(Base60.fromInt(60), Base60.fromInt(3600).sqrtSumerians());
+        assertEquals(Base60.fromFraction(3, 4), Base60.fromFraction(9, 16).sqrtSumerians(3));
+        BigInteger big = BigInteger.valueOf(60).pow(50).add(BigInteger.ONE);
+        assertEquals(Base60.fromInteger(big), Base60.fromInteger(big.pow(2)).sqrtSumerians(0));
     }
 
     @Test
@@ -600,6 +1473,93 @@ class Base60Test {
         assertEquals(classic.toString(8), sumerian.toString(8));
     }
 
+    @Test
+    @DisplayName("sqrtSumerians(places) детермінований і точний до останнього розряду")
+    void sqrtSumeriansPlaces() {
+        Base60 two = Base60.fromInt(2);
+        for (int places : new int[] {0, 1, 5, 30, 60}) {
+            Base60 root = two.sqrtSumerians(places);
+            assertEquals(root, two.sqrtSumerians(places));
+            assertTrue(BigInteger.valueOf(60).pow(places).remainder(root.denominator()).signum() == 0);
+            // |root - √2| ≤ 60^-places  ⇔  (root - unit)² ≤ 2 ≤ (root + unit)²
+            Base60 unit = Base60.fromFraction(BigInteger.ONE, BigInteger.valueOf(60).pow(places));
+            assertTrue(root.subtract(unit).pow(2).compareTo(two) <= 0, places + ": " + root);
+            assertTrue(root.add(unit).pow(2).compareTo(two) >= 0, places + ": " + root);
+        }
+    }
+
+    @Test
+    @DisplayName("sqrtSumerians поза діапазоном double")
+    void sqrtSumeriansHuge() {
+        BigInteger n = BigInteger.TWO.pow(3001);
+        Base60 root = Base60.fromInteger(n).sqrtSumerians(2);
+        BigInteger scaled = n.multiply(BigInteger.valueOf(60).pow(4)).sqrt();
+        Base60 expected = Base60.fromFraction(scaled, BigInteger.valueOf(3600));
+        assertTrue(root.subtract(expected).abs().compareTo(Base60.fromFraction(1, 3600)) <= 0);
+        Base60 tiny = Base60.fromFraction(BigInteger.ONE, BigInteger.TWO.pow(3001)).sqrtSumerians(400);
+        assertEquals(tiny.multiply(tiny).toString(300), Base60.fromFraction(BigInteger.ONE, BigInteger.TWO.pow(3001)).toString(300));
+    }
+
+    @Test
+    @DisplayName("sqrtSumerians з від'ємною кількістю розрядів кидає IllegalArgumentException")
+    void sqrtSumeriansNegativePlaces() {
+        assertThrows(IllegalArgumentException.class, () -> Base60.fromInt(2).sqrtSumerians(-1));
+    }
+
+    // -------------------------------------------------------------------------
+    // limitDenominator / approximate
+    // -------------------------------------------------------------------------
+
+    @Test
+    @DisplayName("limitDenominator: класичні наближення π")
+    void limitDenominatorPi() {
+        Base60 pi = Base60.fromDouble(Math.PI);
+        assertEquals(Base60.fromInt(3), pi.limitDenominator(BigInteger.ONE));
+        assertEquals(Base60.fromFraction(22, 7), pi.limitDenominator(BigInteger.TEN));
+        assertEquals(Base60.fromFraction(311, 99), pi.limitDenominator(BigInteger.valueOf(100)));
+        assertEquals(Base60.fromFraction(355, 113), pi.limitDenominator(BigInteger.valueOf(1000)));
+        assertEquals(Base60.fromFraction(-355, 113), pi.negate().limitDenominator(BigInteger.valueOf(1000)));
+    }
+
+    @Test
+    @DisplayName("limitDenominator збігається з перебором усіх знаменників")
+    void limitDenominatorBruteForce() {
+        Random random = new Random(18);
+        for (int i = 0; i < 300; i++) {
+            Base60 x = Base60.fromFraction(random.nextLong() % 1_000_000_007L, 1 + random.nextInt(1_000_000_007));
+            int max = 1 + random.nextInt(300);
+            Base60 best = null;
+            for (int q = 1; q <= max; q++) {
+                BigInteger p = x.multiply(Base60.fromInt(q)).add(Base60.fromFraction(1, 2)).toInteger();
+                for (BigInteger candidate : new BigInteger[] {p.subtract(BigInteger.ONE), p, p.add(BigInteger.ONE)}) {
+                    Base60 y = Base60.fromFraction(candidate, BigInteger.valueOf(q));
+                    if (best == null || y.subtract(x).abs().compareTo(best.subtract(x).abs()) < 0) {
+                        best = y;
+                    }
+                }
+            }
+            Base60 limited = x.limitDenominator(BigInteger.valueOf(max));
+            assertTrue(limited.denominator().compareTo(BigInteger.valueOf(max)) <= 0);
+            assertEquals(0, limited.subtract(x).abs().compareTo(best.subtract(x).abs()), x + " ≤ " + max);
+        }
+    }
+
+    @Test
+    @DisplayName("approximate(places) не гірший за округлення до places розрядів")
+    void approximatePlaces() {
+        Base60 root = Base60.fromInt(2).sqrtSumerians(40);
+        for (int places = 0; places <= 6; places++) {
+            Base60 approx = root.approximate(places);
+            Base60 rounded = Base60.fromInt(2).sqrtSumerians(places);
+            assertTrue(approx.denominator().compareTo(BigInteger.valueOf(60).pow(places)) <= 0);
+            assertTrue(approx.subtract(root).abs().compareTo(rounded.subtract(root).abs()) <= 0);
+        }
+        Base60 seventh = Base60.fromFraction(1, 7);
+        assertSame(seventh, seventh.approximate(1));
+        assertThrows(IllegalArgumentException.class, () -> root.approximate(-1));
+        assertThrows(IllegalArgumentException.class, () -> root.limitDenominator(BigInteger.ZERO));
+    }
+
     // -------------------------------------------------------------------------
     // java.lang.Number
     // -------------------------------------------------------------------------
@@ -628,6 +1588,63 @@ class Base60Test {
         assertEquals(1.0 / 3.0, Base60.fromFraction(1, 3).doubleValue(), 1e-15);
     }
 
+    @Test
+    @DisplayName("doubleValue: 1/3 точно дорівнює 1.0 / 3.0")
+    void doubleValueExactDivision() {
+        assertEquals(1.0 / 3.0, Base60.fromFraction(1, 3).doubleValue());
+        assertEquals(-0.1f, Base60.fromFraction(-1, 10).floatValue());
+    }
+
+    @Test
+    @DisplayName("doubleValue: половина ulp округлюється до парного")
+    void doubleValueHalfEven() {
+        BigInteger two53 = BigInteger.ONE.shiftLeft(53);
+        assertEquals(0x1p53, Base60.fromInteger(two53.add(BigInteger.ONE)).doubleValue());
+        assertEquals(0x1p53 + 4, Base60.fromInteger(two53.add(BigInteger.valueOf(3))).doubleValue());
+        BigInteger two24 = BigInteger.ONE.shiftLeft(24);
+        assertEquals(0x1p24f, Base60.fromInteger(two24.add(BigInteger.ONE)).floatValue());
+    }
+
+    @Test
+    @DisplayName("doubleValue / floatValue: переповнення та субнормальні")
+    void doubleValueExtremes() {
+        BigInteger huge = BigInteger.ONE.shiftLeft(1100);
+        assertEquals(Double.POSITIVE_INFINITY, Base60.fromInteger(huge).doubleValue());
+        assertEquals(Float.NEGATIVE_INFINITY, Base60.fromInteger(huge.negate()).floatValue());
+        assertEquals(Double.MIN_VALUE, Base60.fromFraction(BigInteger.ONE, BigInteger.ONE.shiftLeft(1074)).doubleValue());
+        assertEquals(0.0, Base60.fromFraction(BigInteger.ONE, BigInteger.ONE.shiftLeft(1075)).doubleValue());
+        assertEquals(Double.MIN_VALUE, Base60.fromFraction(BigInteger.valueOf(3), BigInteger.ONE.shiftLeft(1076)).doubleValue());
+        assertEquals(Float.MIN_VALUE, Base60.fromFraction(BigInteger.ONE, BigInteger.ONE.shiftLeft(149)).floatValue());
+    }
+
+    @Test
+    @DisplayName("doubleValue / floatValue коректно округлені для випадкових дробів")
+    void doubleValueCorrectlyRounded() {
+        Random random = new Random(42);
+        for (int i = 0; i < 2_000; i++) {
+            BigInteger num = new BigInteger(1 + random.nextInt(120), random).add(BigInteger.ONE);
+            BigInteger den = new BigInteger(1 + random.nextInt(120), random).add(BigInteger.ONE);
+            Base60 value = Base60.fromFraction(num, den);
+            double d = value.doubleValue();
+            assertNearest(value, d, Math.nextUp(d), Math.nextDown(d));
+            float f = value.floatValue();
+            assertNearest(value, f, Math.nextUp(f), Math.nextDown(f));
+        }
+    }
+
+    // d має бути найближчим до value серед сусідів (при рівності — з парною мантисою)
+    private static void assertNearest(Base60 value, double d, double up, double down) {
+        Base60 distance = distance(value, d);
+        Base60 toUp = distance(value, up);
+        Base60 toDown = distance(value, down);
+        assertTrue(distance.compareTo(toUp) <= 0 && distance.compareTo(toDown) <= 0,
+                value + " → " + d);
+    }
+
+    private static Base60 distance(Base60 value, double d) {
+        return value.subtract(Base60.fromDecimal(new BigDecimal(d))).abs();
+    }
+
     @Test
     @DisplayName("Base60 є підкласом Number")
     void isNumber() {
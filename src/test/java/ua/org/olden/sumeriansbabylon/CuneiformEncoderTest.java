@@ -0,0 +1,128 @@
+package ua.org.olden.sumeriansbabylon;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CuneiformEncoder — клинопис у буфер викликача")
+class CuneiformEncoderTest {
+
+    private static final String ZERO = Character.toString(0x12471);      // 𒑱
+    private static final String FRACTION = Character.toString(0x12472);  // 𒑲
+    private static final String ONE = Character.toString(0x12079);       // 𒁹
+
+    private static final Base60[] VALUES = {
+            Base60.fromInt(0),
+            Base60.fromInt(59),
+            Base60.fromInt(-3661),
+            Base60.fromFraction(1, 7),
+            Base60.fromFraction(-22, 7),
+            Base60.parse("1:0:0.0:0:1"),
+            Base60.fromFraction(BigInteger.TWO.pow(200).add(BigInteger.ONE), BigInteger.valueOf(3).pow(70)),
+    };
+
+    // Еталон: розряди з toString(precision), кожен замінений знаком
+    private static String reference(Base60 value, int precision) {
+        String text = value.toString(precision);
+        StringBuilder sb = new StringBuilder();
+        if (text.startsWith("-")) {
+            sb.append('-');
+            text = text.substring(1);
+        }
+        String[] parts = text.split("\\.");
+        sb.append(glyphs(parts[0]));
+        if (parts.length > 1) {
+            sb.append(FRACTION).append(glyphs(parts[1]));
+        }
+        return sb.toString();
+    }
+
+    private static String glyphs(String digits) {
+        return String.join(" ", Arrays.stream(digits.split(":"))
+                .map(d -> CuneiformEncoder.glyph(Integer.parseInt(d)))
+                .toArray(String[]::new));
+    }
+
+    @Test
+    @DisplayName("збігається з toString за будь-якої точності")
+    void matchesToString() {
+        for (int precision : new int[] {0, 1, 3, 10, 40}) {
+            CuneiformEncoder encoder = new CuneiformEncoder(precision);
+            for (Base60 x : VALUES) {
+                assertEquals(reference(x, precision), encoder.encode(x), x + " @ " + precision);
+            }
+        }
+        assertEquals(CuneiformEncoder.DEFAULT.encode(Base60.fromFraction(1, 7)), Base60.fromFraction(1, 7).toSumerianString());
+    }
+
+    @Test
+    @DisplayName("нулі всередині дробу пишуться, у кінці — відкидаються")
+    void fractionZeros() {
+        assertEquals(ONE + " " + ZERO + " " + ZERO + FRACTION + ZERO + " " + ZERO + " " + ONE,
+                Base60.parse("1:0:0.0:0:1").toSumerianString());
+        assertEquals(ZERO, Base60.parse("0.0:0:1").toSumerianString(2));
+        // великий знаменник: 1 / (2 · 60^40) = 0.0:…:0:30 — сорок нулів перед 30
+        Base60 big = Base60.fromFraction(BigInteger.ONE, BigInteger.valueOf(60).pow(40).shiftLeft(1));
+        assertEquals(ZERO, big.toSumerianString(40));
+        assertEquals(ZERO + FRACTION + (ZERO + " ").repeat(40) + CuneiformEncoder.glyph(30), big.toSumerianString(50));
+    }
+
+    @Test
+    @DisplayName("OutputStream і ByteBuffer дають UTF-8 того самого тексту")
+    void utf8Sinks() throws IOException {
+        CuneiformEncoder encoder = new CuneiformEncoder(500);
+        Base60 huge = Base60.fromFraction(BigInteger.TWO.pow(20_000).negate(), BigInteger.valueOf(7));
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 20);
+        for (Base60 x : Arrays.copyOf(VALUES, VALUES.length + 1)) {
+            Base60 value = x == null ? huge : x;
+            byte[] expected = encoder.encode(value).getBytes(StandardCharsets.UTF_8);
+
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            encoder.encode(value, stream);
+            assertArrayEquals(expected, stream.toByteArray());
+
+            buffer.clear();
+            encoder.encode(value, buffer);
+            assertArrayEquals(expected, Arrays.copyOf(buffer.array(), buffer.position()));
+        }
+    }
+
+    @Test
+    @DisplayName("нестача місця в ByteBuffer — виняток, буфер не змінюється")
+    void byteBufferOverflow() {
+        ByteBuffer buffer = ByteBuffer.allocate(10);
+        buffer.put((byte) 'x');
+        assertThrows(BufferOverflowException.class,
+                () -> CuneiformEncoder.DEFAULT.encode(Base60.fromInt(3661), buffer));
+        assertEquals(1, buffer.position());
+        assertArrayEquals(new byte[9], Arrays.copyOfRange(buffer.array(), 1, 10));
+        // рівно потрібна довжина вміщується, на байт менше — ні
+        Base60 value = Base60.fromFraction(-3661, 7);
+        byte[] expected = CuneiformEncoder.DEFAULT.encode(value).getBytes(StandardCharsets.UTF_8);
+        ByteBuffer tight = ByteBuffer.allocate(expected.length - 1);
+        assertThrows(BufferOverflowException.class, () -> CuneiformEncoder.DEFAULT.encode(value, tight));
+        assertArrayEquals(new byte[expected.length - 1], tight.array());
+        ByteBuffer exact = ByteBuffer.allocate(expected.length);
+        CuneiformEncoder.DEFAULT.encode(value, exact);
+        assertArrayEquals(expected, exact.array());
+    }
+
+    @Test
+    @DisplayName("від'ємна точність — IllegalArgumentException")
+    void negativePrecision() {
+        assertThrows(IllegalArgumentException.class, () -> new CuneiformEncoder(-1));
+        assertThrows(IllegalArgumentException.class, () -> Base60.fromFraction(1, 2).toSumerianString(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> Base60.fromFraction(1, 2).formatSumerianTo(new StringBuilder(), -1));
+        assertEquals(ZERO, Base60.fromFraction(1, 2).toSumerianString(0));
+    }
+}
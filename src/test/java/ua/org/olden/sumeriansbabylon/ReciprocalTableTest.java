@@ -0,0 +1,78 @@
+package ua.org.olden.sumeriansbabylon;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.math.BigInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReciprocalTable — вавилонська таблиця обернених")
+class ReciprocalTableTest {
+
+    @Test
+    @DisplayName("регулярні числа до 60 — як у вавилонській таблиці")
+    void regularUpTo60() {
+        ReciprocalTable table = new ReciprocalTable(60);
+        assertArrayEquals(new long[] {1, 2, 3, 4, 5, 6, 8, 9, 10, 12, 15, 16, 18, 20, 24, 25, 27, 30,
+                32, 36, 40, 45, 48, 50, 54, 60}, table.numbers().toArray());
+        assertEquals("0.7:30", table.reciprocal(8).toString());
+        assertEquals("0.1:52:30", table.reciprocal(32).toString());
+        assertEquals("0.2:13:20", table.reciprocal(27).toString());
+    }
+
+    @Test
+    @DisplayName("перелік збігається з перебором і не має дублікатів")
+    void matchesBruteForce() {
+        long bound = 1_000_000;
+        long[] expected = LongStream.rangeClosed(1, bound).filter(ReciprocalTableTest::isRegular).toArray();
+        assertArrayEquals(expected, new ReciprocalTable(bound).numbers().toArray());
+    }
+
+    private static boolean isRegular(long n) {
+        for (long p : new long[] {2, 3, 5}) {
+            while (n % p == 0) {
+                n /= p;
+            }
+        }
+        return n == 1;
+    }
+
+    @Test
+    @DisplayName("межа Long.MAX_VALUE: паралельна побудова без переповнення")
+    void fullLongRange() {
+        ReciprocalTable table = new ReciprocalTable(Long.MAX_VALUE);
+        long[] numbers = table.numbers().toArray();
+        assertTrue(numbers.length > 10_000, "size " + numbers.length);
+        for (int i = 1; i < numbers.length; i++) {
+            assertTrue(numbers[i - 1] < numbers[i]);
+        }
+        long last = numbers[numbers.length - 1];
+        assertEquals(Base60.fromInt(1), table.reciprocal(last).multiply(Base60.fromLong(last)));
+        assertEquals(Base60.fromFraction(BigInteger.ONE, BigInteger.valueOf(last)), table.reciprocal(last));
+    }
+
+    @Test
+    @DisplayName("обернені мають скінченний запис і діляться з кешем Base60")
+    void reciprocals() {
+        ReciprocalTable table = new ReciprocalTable(216_000);
+        table.numbers().forEach(n -> {
+            Base60 r = table.reciprocal(n);
+            assertEquals(0, r.periodLength());
+            assertTrue(r.isRegular());
+        });
+        assertSame(Base60.fromFraction(1, 60), table.reciprocal(60));
+    }
+
+    @Test
+    @DisplayName("нерегулярне число або за межею кидає IllegalArgumentException")
+    void notInTable() {
+        ReciprocalTable table = new ReciprocalTable(100);
+        assertFalse(table.contains(7));
+        assertTrue(table.contains(96));
+        assertThrows(IllegalArgumentException.class, () -> table.reciprocal(7));
+        assertThrows(IllegalArgumentException.class, () -> table.reciprocal(120));
+        assertThrows(IllegalArgumentException.class, () -> new ReciprocalTable(0));
+    }
+}